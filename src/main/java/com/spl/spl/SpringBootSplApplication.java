@@ -3,9 +3,15 @@ package com.spl.spl;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.spl.spl.repository.NaturalIdJpaRepository;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableJpaRepositories(repositoryBaseClass = NaturalIdJpaRepository.class)
+@EnableScheduling
 public class SpringBootSplApplication {
 
 	public static void main(String[] args) {
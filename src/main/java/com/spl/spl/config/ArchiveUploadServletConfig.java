@@ -0,0 +1,35 @@
+package com.spl.spl.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import jakarta.servlet.MultipartConfigElement;
+
+/**
+ * The container enforces multipart limits per servlet, so the bulk image import gets a servlet of
+ * its own: a second DispatcherServlet over the same context, mapped to that one path, with room
+ * for a whole ZIP archive. Every other upload keeps the spring.servlet.multipart limits.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ArchiveUploadServletConfig {
+
+	static final String PLAYER_IMAGES_PATH = "/api/upload/player-images";
+
+	@Bean
+	public ServletRegistrationBean<DispatcherServlet> archiveUploadServlet(WebApplicationContext context,
+			@Value("${spl.images.import.max-archive-size:200MB}") DataSize maxArchiveSize) {
+		ServletRegistrationBean<DispatcherServlet> registration = new ServletRegistrationBean<>(
+				new DispatcherServlet(context), PLAYER_IMAGES_PATH);
+		registration.setName("archiveUploadServlet");
+		registration.setLoadOnStartup(1);
+		// parts go straight to disk, the archive is streamed from there
+		registration.setMultipartConfig(new MultipartConfigElement("", maxArchiveSize.toBytes(),
+				maxArchiveSize.toBytes(), 0));
+		return registration;
+	}
+}
@@ -0,0 +1,34 @@
+package com.spl.spl.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Binary representations for high-frequency clients (scoreboards, bidding tablets). Requests with
+ * Accept: application/cbor or application/x-jackson-smile get the same payload as JSON, filtered
+ * by the same {@code @JsonView}; clients that do not ask for them keep getting JSON.
+ */
+@Configuration
+public class HttpMessageConverterConfig {
+
+	@Bean
+	public JacksonCborHttpMessageConverter cborHttpMessageConverter() {
+		// fields without a view stay out of view-filtered responses, as with the JSON mapper
+		return new JacksonCborHttpMessageConverter(CBORMapper.builder()
+				.disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+				.build());
+	}
+
+	@Bean
+	public JacksonSmileHttpMessageConverter smileHttpMessageConverter() {
+		return new JacksonSmileHttpMessageConverter(SmileMapper.builder()
+				.disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+				.build());
+	}
+}
@@ -0,0 +1,51 @@
+package com.spl.spl.config;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.spl.spl.entity.IdBlocks;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves each id block segment past the ids already in use, so tables that were filled by
+ * auto-increment keep working. The table itself comes from the V2 migration. Runs after Flyway
+ * and before the web server accepts requests.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdBlockInitializer {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@PostConstruct
+	public void initialize() {
+		IdBlocks.SEGMENT_TABLES.forEach(this::seed);
+	}
+
+	private void seed(String segment, String table) {
+		Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+		if (maxId == null || maxId == 0) {
+			return; // Hibernate creates the row with its initial value on first use
+		}
+		// the pooled optimizer hands out (next_val - block size, next_val], so the block must start after maxId
+		long floor = maxId + IdBlocks.BLOCK_SIZE;
+		List<Long> current = jdbcTemplate.queryForList("SELECT " + IdBlocks.VALUE_COLUMN + " FROM " + IdBlocks.TABLE
+				+ " WHERE " + IdBlocks.SEGMENT_COLUMN + " = ?", Long.class, segment);
+		if (current.isEmpty()) {
+			jdbcTemplate.update("INSERT INTO " + IdBlocks.TABLE + " (" + IdBlocks.SEGMENT_COLUMN + ", "
+					+ IdBlocks.VALUE_COLUMN + ") VALUES (?, ?)", segment, floor);
+		} else if (current.get(0) < floor) {
+			jdbcTemplate.update("UPDATE " + IdBlocks.TABLE + " SET " + IdBlocks.VALUE_COLUMN + " = ? WHERE "
+					+ IdBlocks.SEGMENT_COLUMN + " = ?", floor, segment);
+		} else {
+			return;
+		}
+		log.info("Id block '{}' moved past existing {} ids (next block ends at {})", segment, table, floor);
+	}
+}
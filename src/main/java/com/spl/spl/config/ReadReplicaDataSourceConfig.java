@@ -0,0 +1,93 @@
+package com.spl.spl.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to a read replica when
+ * {@code spl.datasource.replica.jdbc-url} is set; everything else, including reads outside a
+ * transaction and Flyway, stays on the primary. Without that property Boot's single datasource is
+ * used unchanged.
+ * <p>
+ * The connection is only fetched on the first statement, once the transaction is known to be
+ * read-only, and Hibernate releases it after each transaction (set here, only when routing), so a
+ * request never writes through a replica connection held from an earlier read.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "spl.datasource.replica", name = "jdbc-url")
+public class ReadReplicaDataSourceConfig {
+
+	enum Target {
+		PRIMARY, REPLICA
+	}
+
+	@Bean(destroyMethod = "close")
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(@Value("${spring.datasource.url}") String url,
+			@Value("${spring.datasource.username:}") String username,
+			@Value("${spring.datasource.password:}") String password,
+			@Value("${spring.datasource.driver-class-name:}") String driverClassName) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName("spl-primary");
+		dataSource.setJdbcUrl(url);
+		dataSource.setUsername(username);
+		dataSource.setPassword(password);
+		if (!driverClassName.isEmpty()) {
+			dataSource.setDriverClassName(driverClassName);
+		}
+		return dataSource;
+	}
+
+	@Bean(destroyMethod = "close")
+	@ConfigurationProperties("spl.datasource.replica")
+	public HikariDataSource replicaDataSource() {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName("spl-replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+			ReplicaLagGuard replicaLagGuard) {
+		return routingDataSource(primaryDataSource, replicaDataSource, replicaLagGuard);
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+		return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+				PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+	}
+
+	static DataSource routingDataSource(DataSource primary, DataSource replica, ReplicaLagGuard replicaLagGuard) {
+		AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+			@Override
+			protected Object determineCurrentLookupKey() {
+				boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+						&& TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+				return readOnly && !replicaLagGuard.mustReadPrimary() ? Target.REPLICA : Target.PRIMARY;
+			}
+		};
+		routing.setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+		routing.setDefaultTargetDataSource(primary);
+		routing.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routing);
+	}
+}
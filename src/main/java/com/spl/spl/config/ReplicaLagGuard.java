@@ -0,0 +1,94 @@
+package com.spl.spl.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Decides when a read-only transaction must still go to the primary because the replica may not
+ * have caught up yet:
+ * <ul>
+ * <li>the request itself committed a write, or an earlier response of the same client did so
+ * within the lag window (tracked with a short-lived cookie), so clients read their own writes;</li>
+ * <li>the read feeds a cache shared by all clients ({@link #SHARED_READ_ATTRIBUTE}, or work
+ * outside a request such as report jobs and cache warming) and anybody wrote within the lag
+ * window, so a stale replica read is never cached under the new version.</li>
+ * </ul>
+ * Registered on the transaction manager as an execution listener, so every committed read-write
+ * transaction is seen.
+ */
+@Component
+@ConditionalOnProperty(prefix = "spl.datasource.replica", name = "jdbc-url")
+public class ReplicaLagGuard implements TransactionExecutionListener {
+
+	/** Request attribute marking reads whose result is shared with other clients */
+	public static final String SHARED_READ_ATTRIBUTE = ReplicaLagGuard.class.getName() + ".SHARED_READ";
+
+	static final String COOKIE_NAME = "spl-read-primary-until";
+	private static final String WROTE_ATTRIBUTE = ReplicaLagGuard.class.getName() + ".WROTE";
+
+	private final long lagWindowMillis;
+	private final AtomicLong lastWriteMillis = new AtomicLong();
+
+	public ReplicaLagGuard(@Value("${spl.datasource.replica.lag-window-millis:5000}") long lagWindowMillis) {
+		this.lagWindowMillis = lagWindowMillis;
+	}
+
+	/**
+	 * @return true if the current read must not be served by the replica
+	 */
+	public boolean mustReadPrimary() {
+		long now = System.currentTimeMillis();
+		boolean recentWrite = now - lastWriteMillis.get() < lagWindowMillis;
+		if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+			return recentWrite;
+		}
+		HttpServletRequest request = attributes.getRequest();
+		if (request.getAttribute(WROTE_ATTRIBUTE) != null) {
+			return true;
+		}
+		if (recentWrite && request.getAttribute(SHARED_READ_ATTRIBUTE) != null) {
+			return true;
+		}
+		Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+		return cookie != null && NumberUtils.toLong(cookie.getValue()) > now;
+	}
+
+	@Override
+	public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+		if (commitFailure != null || transaction.isReadOnly()) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		lastWriteMillis.accumulateAndGet(now, Math::max);
+		if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+			return;
+		}
+		attributes.getRequest().setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE);
+		HttpServletResponse response = attributes.getResponse();
+		if (response != null && !response.isCommitted()) {
+			ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(now + lagWindowMillis))
+					.path("/")
+					.maxAge(Duration.ofMillis(lagWindowMillis).plusSeconds(1))
+					.httpOnly(true)
+					.sameSite("Lax")
+					.build();
+			response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+		}
+	}
+}
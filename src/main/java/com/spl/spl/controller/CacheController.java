@@ -0,0 +1,35 @@
+package com.spl.spl.controller;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.spl.spl.event.SeasonChangeType;
+import com.spl.spl.event.SeasonChangedEvent;
+import com.spl.spl.service.ReferenceDataCache;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/caches")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class CacheController {
+
+	private final ReferenceDataCache referenceDataCache;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/* after levels, teams or rules were edited directly in the database */
+	@DeleteMapping("/reference-data")
+	public ResponseEntity<Void> evictReferenceData() {
+		referenceDataCache.evictAll();
+		// cached responses and ETags were built from the old rows too
+		eventPublisher.publishEvent(SeasonChangedEvent.builder()
+				.type(SeasonChangeType.ROSTER_UPDATED)
+				.build());
+		return ResponseEntity.noContent().build();
+	}
+}
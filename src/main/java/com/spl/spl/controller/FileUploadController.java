@@ -1,11 +1,7 @@
 package com.spl.spl.controller;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.io.InputStream;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -15,63 +11,45 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.spl.spl.dto.ImageImportReportDto;
 import com.spl.spl.dto.ItemResponse;
 import com.spl.spl.dto.ItemResponse.ItemData;
+import com.spl.spl.dto.PlayerImageDto;
+import com.spl.spl.service.ImageStorageService;
+import com.spl.spl.service.PlayerImageImportService;
+import com.spl.spl.service.PlayerService;
+
+import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequestMapping("/api/upload")
+@RequiredArgsConstructor
 @CrossOrigin(origins = "*")
 public class FileUploadController {
 
-    private static final String UPLOAD_DIR = "C:\\Users\\SUDIP MEYUR\\ProjectsPhysicalFolder\\spl\\spl-frontend\\assetsExternal\\images\\players\\";
-    private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+    private final ImageStorageService imageStorageService;
+    private final PlayerService playerService;
+    private final PlayerImageImportService playerImageImportService;
 
     @PostMapping("/player-image")
-    public ResponseEntity<ItemResponse<String>> uploadPlayerImage(
+    public ResponseEntity<ItemResponse<PlayerImageDto>> uploadPlayerImage(
             @RequestParam("file") MultipartFile file,
             @RequestParam(value = "playerCode", required = false) String playerCode) {
         
-        try {
-            // Validate file
-            if (file.isEmpty()) {
-                throw new IllegalArgumentException("File is empty");
-            }
-            
-            if (file.getSize() > MAX_FILE_SIZE) {
-                throw new IllegalArgumentException("File size exceeds 5MB limit");
-            }
-            
-            String contentType = file.getContentType();
-            if (contentType == null || !contentType.startsWith("image/")) {
-                throw new IllegalArgumentException("File must be an image");
-            }
-            
-            // Generate filename
-            String originalFilename = file.getOriginalFilename();
-            String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            String filename = (playerCode != null && !playerCode.isEmpty()) 
-                ? playerCode + extension 
-                : UUID.randomUUID().toString() + extension;
-            
-            // Create directory if it doesn't exist
-            Path uploadPath = Paths.get(UPLOAD_DIR);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-            
-            // Save file
-            Path filePath = uploadPath.resolve(filename);
-            try (var inputStream = file.getInputStream()) {
-                Files.copy(inputStream, filePath, StandardCopyOption.REPLACE_EXISTING);
-            }
-            
-            // Return the path that frontend can use
-            String imagePath = "external-images/images/players/" + filename;
-            
-            return ResponseEntity.ok(new ItemResponse<>(new ItemData<>(imagePath)));
-            
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to upload file: " + e.getMessage());
+        PlayerImageDto image = imageStorageService.store(file);
+        if (playerCode != null && !playerCode.isBlank()) {
+            playerService.updatePlayerImage(playerCode, image.getImageUrl());
+        }
+        return ResponseEntity.ok(new ItemResponse<>(new ItemData<>(image)));
+    }
+
+    @PostMapping("/player-images")
+    public ResponseEntity<ItemResponse<ImageImportReportDto>> importPlayerImages(
+            @RequestParam("file") MultipartFile file) throws IOException {
+
+        try (InputStream archive = file.getInputStream()) {
+            ImageImportReportDto report = playerImageImportService.importZip(archive);
+            return ResponseEntity.ok(new ItemResponse<>(new ItemData<>(report)));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,121 @@
+package com.spl.spl.controller;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.spl.spl.service.ImageFileService;
+import com.spl.spl.service.ImageFileService.ImageFile;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ImageController {
+
+	/* Tomcat sends the file itself (sendfile) when these request attributes are set */
+	private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+			.getHeaderValue();
+	private static final String REVALIDATE = CacheControl.noCache().cachePublic().getHeaderValue();
+
+	private final ImageFileService imageFileService;
+
+	/**
+	 * Serves an image file with validators and single byte-range support.
+	 *
+	 * @param path Path below the image root, e.g. "/players/9f86...0a08-thumb.jpg"
+	 * @example GET /api/images/teams/strikers.png with "Range: bytes=0-1023" -> 206, Content-Range: bytes 0-1023/48213
+	 */
+	@GetMapping("/{*path}")
+	public void getImage(@PathVariable String path, HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+		ImageFile image = imageFileService.resolve(path);
+		response.setHeader(HttpHeaders.CACHE_CONTROL, image.immutable() ? IMMUTABLE : REVALIDATE);
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		if (new ServletWebRequest(request, response).checkNotModified(image.etag(), image.lastModified())) {
+			return;
+		}
+
+		long start = 0;
+		long count = image.length();
+		HttpRange range = requestedRange(request, image);
+		if (range != null) {
+			start = range.getRangeStart(image.length());
+			if (start >= image.length()) {
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + image.length());
+				response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+				return;
+			}
+			count = range.getRangeEnd(image.length()) - start + 1;
+			response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+			response.setHeader(HttpHeaders.CONTENT_RANGE,
+					"bytes " + start + "-" + (start + count - 1) + "/" + image.length());
+		}
+		response.setContentType(image.contentType().toString());
+		response.setContentLengthLong(count);
+		if (HttpMethod.HEAD.matches(request.getMethod())) {
+			return;
+		}
+
+		byte[] thumbnail = imageFileService.cachedThumbnail(image);
+		if (thumbnail != null) {
+			response.getOutputStream().write(thumbnail, (int) start, (int) count);
+		} else if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+			request.setAttribute(SENDFILE_FILENAME, image.path().toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, start + count);
+		} else {
+			imageFileService.transferTo(image, start, count, response.getOutputStream());
+		}
+	}
+
+	/* a single satisfiable range is honoured; several ranges, bad syntax or a stale If-Range get the whole file */
+	private HttpRange requestedRange(HttpServletRequest request, ImageFile image) {
+		String header = request.getHeader(HttpHeaders.RANGE);
+		if (header == null || !matchesIfRange(request, image)) {
+			return null;
+		}
+		try {
+			List<HttpRange> ranges = HttpRange.parseRanges(header);
+			return ranges.size() == 1 ? ranges.get(0) : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private boolean matchesIfRange(HttpServletRequest request, ImageFile image) {
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (ifRange == null) {
+			return true;
+		}
+		if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+			return ifRange.equals(image.etag());
+		}
+		try {
+			return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == image.lastModified() / 1000;
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+}
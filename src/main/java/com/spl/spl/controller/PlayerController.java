@@ -1,7 +1,5 @@
 package com.spl.spl.controller;
 
-import java.util.List;
-
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,14 +11,21 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.spl.spl.dto.ItemResponse;
+import com.spl.spl.dto.ItemResponse.ItemData;
 import com.spl.spl.dto.ItemsResponse;
 import com.spl.spl.dto.ItemsResponse.ItemsData;
 import com.spl.spl.dto.PlayerInfoDto;
 import com.spl.spl.dto.PlayerTeamRequest;
+import com.spl.spl.dto.RosterImportReportDto;
 import com.spl.spl.entity.Player;
 import com.spl.spl.entity.UnsoldPlayer;
+import com.spl.spl.service.PlayerRosterImportService;
 import com.spl.spl.service.PlayerService;
+import com.spl.spl.web.VersionedReads;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,11 +36,13 @@ import lombok.RequiredArgsConstructor;
 public class PlayerController {
 
 	private final PlayerService playerService;
+	private final VersionedReads versionedReads;
+	private final PlayerRosterImportService playerRosterImportService;
 
 	@GetMapping
-	public ResponseEntity<ItemsResponse<Player>> getAllPlayers() {
-		List<Player> players = playerService.getAllPlayers();
-		return ResponseEntity.ok(new ItemsResponse<>(new ItemsData<>(players)));
+	public ResponseEntity<ItemsResponse<Player>> getAllPlayers(WebRequest webRequest) {
+		return versionedReads.read(null, webRequest,
+				() -> new ItemsResponse<>(new ItemsData<>(playerService.getAllPlayers())));
 	}
 	
 	@PostMapping
@@ -43,6 +50,13 @@ public class PlayerController {
 		Player savedPlayer = playerService.savePlayer(player);
 		return ResponseEntity.ok(savedPlayer);
 	}
+
+	@PostMapping("/import")
+	public ResponseEntity<ItemResponse<RosterImportReportDto>> importRoster(@RequestParam("file") MultipartFile file) {
+		RosterImportReportDto report = playerRosterImportService.importRoster(file);
+		return ResponseEntity.ok(new ItemResponse<>(new ItemData<>(report)));
+	}
+
 	@PutMapping("/{id}")
 	public ResponseEntity<Player> updatePlayer(@PathVariable String id, @RequestBody Player player) {
 		player.setId(Long.valueOf(id));
@@ -54,9 +68,10 @@ public class PlayerController {
 	@GetMapping("/available")
 	public ResponseEntity<ItemsResponse<Player>> getAvailablePlayers(
 			@RequestParam String seasonId,
-			@RequestParam String playerLevelId) {
-		List<Player> players = playerService.getAvailablePlayersByLevelShuffled(Long.valueOf(seasonId), Long.valueOf(playerLevelId));
-		return ResponseEntity.ok(new ItemsResponse<>(new ItemsData<>(players)));
+			@RequestParam String playerLevelId,
+			WebRequest webRequest) {
+		return versionedReads.read(Long.valueOf(seasonId), webRequest, () -> new ItemsResponse<>(new ItemsData<>(
+				playerService.getAvailablePlayersByLevelShuffled(Long.valueOf(seasonId), Long.valueOf(playerLevelId)))));
 	}
 	
 	@PostMapping("/unsold")
@@ -73,15 +88,17 @@ public class PlayerController {
 	
 	@GetMapping("/unsold")
 	public ResponseEntity<ItemsResponse<Player>> getUnsoldPlayers(
-			@RequestParam String seasonId) {
-		List<Player> players = playerService.getUnsoldPlayersShuffled(Long.valueOf(seasonId));
-		return ResponseEntity.ok(new ItemsResponse<>(new ItemsData<>(players)));
+			@RequestParam String seasonId,
+			WebRequest webRequest) {
+		return versionedReads.read(Long.valueOf(seasonId), webRequest, () -> new ItemsResponse<>(new ItemsData<>(
+				playerService.getUnsoldPlayersShuffled(Long.valueOf(seasonId)))));
 	}
 	
 	@GetMapping("/auction-result")
 	public ResponseEntity<ItemsResponse<PlayerInfoDto>> getAllAuctionResultPlayers(
-			@RequestParam String seasonId) {
-		List<PlayerInfoDto> playerInfos = playerService.getAllAuctionResultPlayers(Long.valueOf(seasonId));
-		return ResponseEntity.ok(new ItemsResponse<>(new ItemsData<>(playerInfos)));
+			@RequestParam String seasonId,
+			WebRequest webRequest) {
+		return versionedReads.read(Long.valueOf(seasonId), webRequest, () -> new ItemsResponse<>(new ItemsData<>(
+				playerService.getAllAuctionResultPlayers(Long.valueOf(seasonId)))));
 	}
 }
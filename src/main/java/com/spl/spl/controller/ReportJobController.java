@@ -0,0 +1,57 @@
+package com.spl.spl.controller;
+
+import java.net.URI;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.spl.spl.dto.ItemResponse;
+import com.spl.spl.dto.ItemResponse.ItemData;
+import com.spl.spl.dto.ReportJobDto;
+import com.spl.spl.dto.ReportJobRequest;
+import com.spl.spl.service.ReportJobService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ReportJobController {
+
+	private final ReportJobService reportJobService;
+
+	@PostMapping
+	public ResponseEntity<ItemResponse<ReportJobDto>> submitReportJob(@RequestBody ReportJobRequest request) {
+		ReportJobDto job = reportJobService.submit(request);
+		return ResponseEntity.accepted()
+				.location(URI.create("/api/reports/" + job.getId()))
+				.body(new ItemResponse<>(new ItemData<>(job)));
+	}
+
+	@GetMapping("/{jobId}")
+	public ResponseEntity<ItemResponse<ReportJobDto>> getReportJob(@PathVariable String jobId) {
+		return ResponseEntity.ok(new ItemResponse<>(new ItemData<>(reportJobService.getJob(jobId))));
+	}
+
+	@GetMapping("/{jobId}/download")
+	public ResponseEntity<byte[]> downloadReport(@PathVariable String jobId) {
+		ReportJobService.ReportResult result = reportJobService.getResult(jobId);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.parseMediaType(result.contentType()));
+		headers.setContentDispositionFormData("attachment", result.fileName());
+
+		return ResponseEntity.ok()
+				.headers(headers)
+				.body(result.content());
+	}
+}
@@ -1,5 +1,7 @@
 package com.spl.spl.controller;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -7,13 +9,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.annotation.JsonView;
 import com.spl.spl.dto.ItemResponse;
 import com.spl.spl.dto.ItemResponse.ItemData;
+import com.spl.spl.dto.SeasonChangesDto;
+import com.spl.spl.dto.SeasonDashboardDto;
 import com.spl.spl.entity.Season;
+import com.spl.spl.service.AuctionEventBroadcaster;
+import com.spl.spl.service.SeasonChangeLog;
+import com.spl.spl.service.SeasonDashboardService;
 import com.spl.spl.service.SeasonService;
+import com.spl.spl.service.SquadPdfBundleService;
 import com.spl.spl.views.Views;
 
 import lombok.RequiredArgsConstructor;
@@ -25,6 +36,10 @@ import lombok.RequiredArgsConstructor;
 public class SeasonController {
 
 	private final SeasonService seasonService;
+	private final SeasonDashboardService seasonDashboardService;
+	private final AuctionEventBroadcaster auctionEventBroadcaster;
+	private final SeasonChangeLog seasonChangeLog;
+	private final SquadPdfBundleService squadPdfBundleService;
 
 	@JsonView(Views.SeasonView.class)
 	@GetMapping("/current")
@@ -33,6 +48,40 @@ public class SeasonController {
 		return ResponseEntity.ok(new ItemResponse<>(new ItemData<>(currentSeason)));
 	}
 
+	@JsonView(Views.SeasonDashboardView.class)
+	@GetMapping("/{id}/dashboard")
+	public ResponseEntity<ItemResponse<SeasonDashboardDto>> getSeasonDashboard(@PathVariable Long id) {
+		SeasonDashboardDto dashboard = seasonDashboardService.getDashboard(id);
+		return ResponseEntity.ok(new ItemResponse<>(new ItemData<>(dashboard)));
+	}
+
+	@GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamAuctionEvents(@PathVariable Long id) {
+		return auctionEventBroadcaster.subscribe(id);
+	}
+
+	@GetMapping("/{id}/squad-pdfs")
+	public ResponseEntity<StreamingResponseBody> exportSquadPdfs(@PathVariable Long id) {
+		SquadPdfBundleService.SeasonSquads squads = squadPdfBundleService.loadSquads(id);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.parseMediaType("application/zip"));
+		headers.setContentDispositionFormData("attachment", "Squads_Season_" + id + ".zip");
+
+		return ResponseEntity.ok()
+				.headers(headers)
+				.body(out -> squadPdfBundleService.writeBundle(squads, out));
+	}
+
+	@GetMapping("/{id}/changes")
+	public ResponseEntity<ItemResponse<SeasonChangesDto>> getSeasonChanges(
+			@PathVariable Long id,
+			@RequestParam long since,
+			@RequestParam(required = false) String epoch) {
+		SeasonChangesDto changes = seasonChangeLog.changesSince(id, since, epoch);
+		return ResponseEntity.ok(new ItemResponse<>(new ItemData<>(changes)));
+	}
+
 	@JsonView(Views.SeasonView.class)
 	@PutMapping("/{id}/complete")
 	public ResponseEntity<ItemResponse<Season>> completeAuction(
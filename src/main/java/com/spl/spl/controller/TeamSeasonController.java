@@ -1,8 +1,7 @@
 package com.spl.spl.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -11,16 +10,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import com.spl.spl.config.ReplicaLagGuard;
+import com.spl.spl.dto.FieldSelection;
 import com.spl.spl.dto.ItemResponse;
 import com.spl.spl.dto.ItemResponse.ItemData;
 import com.spl.spl.dto.ItemsResponse;
 import com.spl.spl.dto.ItemsResponse.ItemsData;
 import com.spl.spl.entity.TeamSeason;
 import com.spl.spl.service.PdfGenerationService;
+import com.spl.spl.service.SquadPdfCache;
 import com.spl.spl.service.TeamSeasonService;
 import com.spl.spl.views.Views;
+import com.spl.spl.web.VersionedReads;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,33 +38,56 @@ public class TeamSeasonController {
 
 	private final TeamSeasonService teamSeasonService;
 	private final PdfGenerationService pdfGenerationService;
+	private final VersionedReads versionedReads;
+	private final SquadPdfCache squadPdfCache;
 
 	@JsonView(Views.TeamSeasonsView.class)
 	@GetMapping
-	public ResponseEntity<ItemsResponse<TeamSeason>> getTeamSeasonsBySeasonCode(@RequestParam String seasonId) {
-		List<TeamSeason> teamSeasons = teamSeasonService.getTeamSeasonsBySeason(Long.valueOf(seasonId));
-		return ResponseEntity.ok(new ItemsResponse<>(new ItemsData<>(teamSeasons)));
+	public ResponseEntity<ItemsResponse<TeamSeason>> getTeamSeasonsBySeasonCode(@RequestParam String seasonId,
+			@RequestParam(required = false) String fields, WebRequest webRequest) {
+		return versionedReads.read(Long.valueOf(seasonId), webRequest, () -> new ItemsResponse<>(new ItemsData<>(
+				teamSeasonService.getTeamSeasonsBySeason(Long.valueOf(seasonId), FieldSelection.parse(fields)))));
 	}
 	
 	@JsonView(Views.TeamSeasonView.class)
 	@GetMapping("/{id}")
-	public ResponseEntity<ItemResponse<TeamSeason>> getTeamSeasonById(@PathVariable String id) {
-		TeamSeason teamSeason = teamSeasonService.getTeamSeason(Long.valueOf(id));
+	public ResponseEntity<ItemResponse<TeamSeason>> getTeamSeasonById(@PathVariable String id,
+			@RequestParam(required = false) String fields) {
+		TeamSeason teamSeason = teamSeasonService.getTeamSeason(Long.valueOf(id), FieldSelection.parse(fields));
 		return ResponseEntity.ok(new ItemResponse<>(new ItemData<>(teamSeason)));
 	}
 
 	@GetMapping("/{id}/pdf")
-	public ResponseEntity<byte[]> generateTeamSquadPdf(@PathVariable String id) {
-		TeamSeason teamSeason = teamSeasonService.getTeamSeason(Long.valueOf(id));
-		byte[] pdfBytes = pdfGenerationService.generateTeamSquadPdf(teamSeason);
-		
+	public ResponseEntity<StreamingResponseBody> generateTeamSquadPdf(@PathVariable String id, WebRequest webRequest) {
+		Long teamSeasonId = Long.valueOf(id);
+		// resolved before loading, so a render is never cached under a newer version than its data
+		String etag = squadPdfCache.etag(teamSeasonId);
+		if (webRequest.checkNotModified(etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+		}
+
+		SquadPdfCache.CachedPdf cached = squadPdfCache.get(teamSeasonId, etag);
+		if (cached != null) {
+			return ResponseEntity.ok()
+					.headers(pdfHeaders(cached.fileName()))
+					.eTag(etag)
+					.body(cached::writeTo);
+		}
+
+		webRequest.setAttribute(ReplicaLagGuard.SHARED_READ_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+		TeamSeason teamSeason = teamSeasonService.getTeamSeasonForSquadPdf(teamSeasonId);
+		String fileName = pdfGenerationService.squadPdfFileName(teamSeason);
+		return ResponseEntity.ok()
+				.headers(pdfHeaders(fileName))
+				.eTag(etag)
+				.body(out -> squadPdfCache.render(teamSeasonId, etag, fileName, out,
+						pdf -> pdfGenerationService.writeTeamSquadPdf(teamSeason, pdf)));
+	}
+
+	private HttpHeaders pdfHeaders(String fileName) {
 		HttpHeaders headers = new HttpHeaders();
 		headers.setContentType(MediaType.APPLICATION_PDF);
-		headers.setContentDispositionFormData("attachment", 
-				teamSeason.getTeam().getName() + "_Squad_" + teamSeason.getSeason().getCode() + ".pdf");
-		
-		return ResponseEntity.ok()
-				.headers(headers)
-				.body(pdfBytes);
+		headers.setContentDispositionFormData("attachment", fileName);
+		return headers;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.spl.spl.dto;
+
+import java.util.List;
+
+import com.spl.spl.event.PlayerStatus;
+import com.spl.spl.event.SeasonChangeType;
+import com.spl.spl.event.SeasonChangedEvent;
+
+import lombok.Data;
+
+@Data
+public class AuctionEventDto {
+
+	private Long seasonId;
+	private long version;
+	private SeasonChangeType type;
+	private String playerCode;
+	private PlayerStatus playerStatus;
+	private List<TeamSeasonTotalsDto> teamSeasons;
+
+	public AuctionEventDto(SeasonChangedEvent event) {
+		this.seasonId = event.getSeasonId();
+		this.version = event.getVersion();
+		this.type = event.getType();
+		this.playerCode = event.getPlayerCode();
+		this.playerStatus = event.getPlayerStatus();
+		this.teamSeasons = event.getTeamSeasons();
+	}
+}
@@ -0,0 +1,80 @@
+package com.spl.spl.dto;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Properties a client asked for with the {@code fields} query parameter, as dotted paths relative
+ * to each returned item (e.g. {@code code,totalAmountSpent,team.name}). Selecting an object keeps
+ * all of its properties; an empty selection keeps everything.
+ */
+public final class FieldSelection {
+
+	public static final String PARAM = "fields";
+	public static final FieldSelection ALL = new FieldSelection(Set.of());
+
+	private final Set<String> paths;
+
+	private FieldSelection(Set<String> paths) {
+		this.paths = paths;
+	}
+
+	/**
+	 * Parses a comma separated {@code fields} parameter.
+	 *
+	 * @param fields Parameter value (null or blank selects everything)
+	 * @return The selection
+	 * @example parse("code, team.name") -> FieldSelection[code, team.name]
+	 */
+	public static FieldSelection parse(String fields) {
+		if (StringUtils.isBlank(fields)) {
+			return ALL;
+		}
+		Set<String> paths = Arrays.stream(fields.split(","))
+				.map(String::trim)
+				.filter(StringUtils::isNotEmpty)
+				.collect(Collectors.toUnmodifiableSet());
+		return paths.isEmpty() ? ALL : new FieldSelection(paths);
+	}
+
+	public boolean isAll() {
+		return paths.isEmpty();
+	}
+
+	/**
+	 * Whether a property is serialised: it is selected, lies inside a selected object, or leads to one.
+	 *
+	 * @param path Dotted path of the property
+	 * @return true if the property is kept
+	 * @example includes("team") with fields=team.name -> true
+	 */
+	public boolean includes(String path) {
+		if (isAll() || paths.contains(path)) {
+			return true;
+		}
+		for (String selected : paths) {
+			if (selected.startsWith(path + ".") || path.startsWith(selected + ".")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Whether any of the given associations will be serialised, so the caller knows if it has to fetch them.
+	 *
+	 * @param associations Top level association names
+	 * @return true if at least one of them is included
+	 */
+	public boolean includesAny(String... associations) {
+		return Arrays.stream(associations).anyMatch(this::includes);
+	}
+
+	@Override
+	public String toString() {
+		return "FieldSelection" + paths;
+	}
+}
@@ -0,0 +1,16 @@
+package com.spl.spl.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ImageImportReportDto {
+	private int imported;
+	private int unchanged;
+	private int skipped;
+	private int failed;
+	private List<ImageImportResultDto> files;
+}
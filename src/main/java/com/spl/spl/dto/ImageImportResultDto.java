@@ -0,0 +1,14 @@
+package com.spl.spl.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ImageImportResultDto {
+	private String fileName;
+	private String playerCode;
+	private ImageImportStatus status;
+	private String imageUrl;
+	private String message;
+}
@@ -0,0 +1,9 @@
+package com.spl.spl.dto;
+
+public enum ImageImportStatus {
+	IMPORTED,
+	UNCHANGED,
+	NO_MATCHING_PLAYER,
+	SKIPPED,
+	FAILED
+}
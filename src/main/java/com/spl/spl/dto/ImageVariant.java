@@ -0,0 +1,26 @@
+package com.spl.spl.dto;
+
+/**
+ * Resized renditions produced for every uploaded player image, by longest side in pixels.
+ */
+public enum ImageVariant {
+	THUMBNAIL("thumb", 96),
+	CARD("card", 320),
+	FULL("full", 1080);
+
+	private final String suffix;
+	private final int maxSide;
+
+	ImageVariant(String suffix, int maxSide) {
+		this.suffix = suffix;
+		this.maxSide = maxSide;
+	}
+
+	public String getSuffix() {
+		return suffix;
+	}
+
+	public int getMaxSide() {
+		return maxSide;
+	}
+}
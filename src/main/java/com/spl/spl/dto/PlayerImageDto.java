@@ -0,0 +1,15 @@
+package com.spl.spl.dto;
+
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PlayerImageDto {
+	/* the uploaded file as stored, usable right away */
+	private String imageUrl;
+	/* resized renditions, written shortly after the upload returns */
+	private Map<ImageVariant, String> variants;
+}
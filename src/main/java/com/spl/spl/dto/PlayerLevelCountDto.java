@@ -0,0 +1,11 @@
+package com.spl.spl.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PlayerLevelCountDto {
+	private String playerLevelCode;
+	private Long count;
+}
@@ -0,0 +1,39 @@
+package com.spl.spl.dto;
+
+import java.math.BigDecimal;
+
+import com.spl.spl.entity.PlayerTeam;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PlayerTeamChangeDto {
+	private String code;
+	private String playerCode;
+	private String teamSeasonCode;
+	private BigDecimal soldAmount;
+	private Boolean isManager;
+	private Boolean isRtmUsed;
+	private Boolean isFree;
+	private Boolean wasUnsold;
+	private boolean deleted;
+
+	public static PlayerTeamChangeDto of(PlayerTeam playerTeam) {
+		return PlayerTeamChangeDto.builder()
+				.code(playerTeam.getCode())
+				.playerCode(playerTeam.getPlayer().getCode())
+				.teamSeasonCode(playerTeam.getTeamSeason().getCode())
+				.soldAmount(playerTeam.getSoldAmount())
+				.isManager(playerTeam.getIsManager())
+				.isRtmUsed(playerTeam.getIsRtmUsed())
+				.isFree(playerTeam.getIsFree())
+				.wasUnsold(playerTeam.getWasUnsold())
+				.build();
+	}
+
+	public static PlayerTeamChangeDto deleted(String code) {
+		return PlayerTeamChangeDto.builder().code(code).deleted(true).build();
+	}
+}
@@ -0,0 +1,19 @@
+package com.spl.spl.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ReportJobDto {
+	private String id;
+	private ReportJobType type;
+	private ReportJobStatus status;
+	private String fileName;
+	private String error;
+	private LocalDateTime submittedAt;
+	private LocalDateTime completedAt;
+	private LocalDateTime expiresAt;
+}
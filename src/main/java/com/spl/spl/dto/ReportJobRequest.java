@@ -0,0 +1,10 @@
+package com.spl.spl.dto;
+
+import lombok.Data;
+
+@Data
+public class ReportJobRequest {
+	private ReportJobType type;
+	private Long seasonId;
+	private Long teamSeasonId;
+}
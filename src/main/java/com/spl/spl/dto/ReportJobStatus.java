@@ -0,0 +1,8 @@
+package com.spl.spl.dto;
+
+public enum ReportJobStatus {
+	QUEUED,
+	RUNNING,
+	COMPLETED,
+	FAILED
+}
@@ -0,0 +1,7 @@
+package com.spl.spl.dto;
+
+public enum ReportJobType {
+	SQUAD_PDF,
+	SEASON_SQUAD_BUNDLE,
+	AUCTION_RESULTS
+}
@@ -0,0 +1,15 @@
+package com.spl.spl.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RosterImportReportDto {
+	private long rows;
+	private long imported;
+	private long failed;
+	private List<RosterImportErrorDto> errors;
+}
@@ -0,0 +1,27 @@
+package com.spl.spl.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SeasonChangesDto {
+
+	private Long seasonId;
+
+	private String epoch;
+
+	/* version the client should send as "since" on its next call */
+	private long version;
+
+	/* true when the requested version is outside the retained window; refetch everything */
+	private boolean fullResync;
+
+	private List<PlayerTeamChangeDto> playerTeams;
+
+	private List<UnsoldPlayerChangeDto> unsoldPlayers;
+
+	private List<TeamSeasonTotalsDto> teamSeasons;
+}
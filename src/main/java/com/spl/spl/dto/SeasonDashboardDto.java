@@ -0,0 +1,38 @@
+package com.spl.spl.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.spl.spl.entity.PlayerCategory;
+import com.spl.spl.entity.PlayerLevel;
+import com.spl.spl.entity.Season;
+import com.spl.spl.entity.TeamSeason;
+import com.spl.spl.views.Views;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SeasonDashboardDto {
+
+	@JsonView(Views.Base.class)
+	private Season season;
+
+	@JsonView(Views.Summary.class)
+	private List<TeamSeason> teamSeasons;
+
+	@JsonView(Views.Base.class)
+	private List<PlayerLevel> playerLevels;
+
+	@JsonView(Views.Summary.class)
+	private List<PlayerCategory> categories;
+
+	/* available (not sold, not unsold) player count keyed by PlayerLevel.code */
+	@JsonView(Views.Summary.class)
+	private Map<String, Long> availablePlayerCounts;
+
+	@JsonView(Views.Summary.class)
+	private Long unsoldPlayerCount;
+}
@@ -0,0 +1,28 @@
+package com.spl.spl.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TeamSeasonTotalsDto {
+	private Long id;
+	private String code;
+	private BigDecimal totalAmountSpent;
+	private Integer totalRtmUsed;
+	private Integer totalFreeUsed;
+	private Integer totalPlayer;
+	private List<PlayerLevelBudgetDto> playerLevels;
+
+	@Data
+	@Builder
+	public static class PlayerLevelBudgetDto {
+		private String playerLevelCode;
+		private BigDecimal totalAmountSpent;
+		private Integer totalPlayerCount;
+		private BigDecimal nextPlayerBudget;
+	}
+}
@@ -0,0 +1,12 @@
+package com.spl.spl.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class UnsoldPlayerChangeDto {
+	private Long id;
+	private String playerCode;
+	private boolean deleted;
+}
@@ -0,0 +1,23 @@
+package com.spl.spl.entity;
+
+/**
+ * Second-level cache regions of the reference entities, sized in hibernate-cache.conf. Entity
+ * regions hold rows by id, the code regions resolve a {@code @NaturalId} code to its id.
+ */
+public final class CacheRegions {
+
+	public static final String PLAYER_LEVEL = "player-level";
+	public static final String PLAYER_LEVEL_CODES = "player-level-codes";
+	public static final String PLAYER_CATEGORY = "player-category";
+	public static final String TEAM = "team";
+	public static final String TEAM_CODES = "team-codes";
+	public static final String SEASON = "season";
+	public static final String SEASON_CODES = "season-codes";
+	public static final String RULE = "rule";
+
+	/* query results of the season rule lookup (rule ids, the rules come from RULE) */
+	public static final String SEASON_RULES = "season-rules";
+
+	private CacheRegions() {
+	}
+}
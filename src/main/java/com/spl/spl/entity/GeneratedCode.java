@@ -0,0 +1,29 @@
+package com.spl.spl.entity;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+/**
+ * Business code derived from the entity id, e.g. "pl" + id for players. It is filled in while the
+ * INSERT is prepared, so the row is written once. A code set by the caller is overwritten unless
+ * the code is {@link #overridable()}. The id must be known before
+ * the insert, so the entity needs a table id generator (see {@link IdBlocks}), not
+ * {@code GenerationType.IDENTITY}.
+ *
+ * @example @GeneratedCode(prefix = "pl") private String code; // player 42 -> "pl42"
+ * @example @GeneratedCode(prefix = "S", overridable = true) private String code; // "S7", or the code an admin chose
+ */
+@ValueGenerationType(generatedBy = GeneratedCodeGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface GeneratedCode {
+
+	String prefix();
+
+	/* keep a code set by the caller and only generate a missing one */
+	boolean overridable() default false;
+}
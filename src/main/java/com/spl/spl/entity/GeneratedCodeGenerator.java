@@ -0,0 +1,45 @@
+package com.spl.spl.entity;
+
+import java.util.EnumSet;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * Generator behind {@link GeneratedCode}. The code becomes prefix + id on insert as well as on
+ * update (e.g. a PUT body without a code or with a different one). Overridable codes keep a value
+ * set by the caller and are only generated when missing.
+ */
+public class GeneratedCodeGenerator implements BeforeExecutionGenerator {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String prefix;
+	private final boolean overridable;
+
+	public GeneratedCodeGenerator(GeneratedCode annotation) {
+		this.prefix = annotation.prefix();
+		this.overridable = annotation.overridable();
+	}
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+			EventType eventType) {
+		if (overridable && currentValue != null) {
+			return currentValue;
+		}
+		Object id = session.getEntityPersister(null, owner).getIdentifier(owner, session);
+		if (id == null) {
+			throw new IllegalStateException(owner.getClass().getSimpleName()
+					+ " has no id before insert; @GeneratedCode needs a sequence or table id generator");
+		}
+		return prefix + id;
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_AND_UPDATE;
+	}
+}
@@ -0,0 +1,23 @@
+package com.spl.spl.entity;
+
+import java.util.Map;
+
+/**
+ * Shared settings of the table-backed id generators. Each node reserves {@link #BLOCK_SIZE} ids
+ * per round trip to {@link #TABLE} and hands them out from memory (Hibernate's pooled optimizer).
+ */
+public final class IdBlocks {
+
+	public static final String TABLE = "id_block";
+	public static final String SEGMENT_COLUMN = "segment";
+	public static final String VALUE_COLUMN = "next_val";
+	public static final int BLOCK_SIZE = 50;
+
+	/* segment -> entity table whose ids it allocates */
+	public static final Map<String, String> SEGMENT_TABLES = Map.of(
+			"player", "player",
+			"season", "season");
+
+	private IdBlocks() {
+	}
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
 
@@ -22,12 +23,16 @@ import lombok.Data;
 @Data
 public class Player {
 
+	/* ids come in blocks from id_block, so the code is known before the row is inserted */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "player_id")
+	@TableGenerator(name = "player_id", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+			valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "player", allocationSize = IdBlocks.BLOCK_SIZE)
 	private Long id;
 	
 	@JsonView(Views.Summary.class)
 	@Column(unique = true)
+	@GeneratedCode(prefix = "pl")
 	private String code;
 	
 	@JsonView(Views.Summary.class)
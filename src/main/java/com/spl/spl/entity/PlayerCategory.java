@@ -1,5 +1,8 @@
 package com.spl.spl.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonView;
 import com.spl.spl.views.Views;
 
@@ -11,6 +14,7 @@ import lombok.Data;
 
 @Entity
 @Table(name = "player_category")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PLAYER_CATEGORY)
 @Data
 public class PlayerCategory {
 
@@ -2,6 +2,11 @@ package com.spl.spl.entity;
 
 import java.math.BigDecimal;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 import com.fasterxml.jackson.annotation.JsonView;
 import com.spl.spl.views.Views;
 
@@ -18,6 +23,8 @@ import lombok.Data;
 @Table(name = "player_level", uniqueConstraints = {
 	@UniqueConstraint(columnNames = "code")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PLAYER_LEVEL)
+@NaturalIdCache(region = CacheRegions.PLAYER_LEVEL_CODES)
 @Data
 public class PlayerLevel {
 
@@ -28,19 +35,20 @@ public class PlayerLevel {
 	
 	@JsonView(Views.Base.class)
 	@Column(unique = true)
+	@NaturalId(mutable = true)
 	private String code;
 	
-	@JsonView(Views.PlayerLevel.class)
+	@JsonView({Views.PlayerLevel.class, Views.SeasonDashboardView.class})
 	private String name;
 	
-	@JsonView(Views.PlayerLevel.class)
+	@JsonView({Views.PlayerLevel.class, Views.SeasonDashboardView.class})
 	private BigDecimal baseAmount;
 	
-	@JsonView(Views.PlayerLevel.class)
+	@JsonView({Views.PlayerLevel.class, Views.SeasonDashboardView.class})
 	@Column(columnDefinition = "boolean default false")
 	private Boolean isFree;
 	
-	@JsonView(Views.PlayerLevel.class)
+	@JsonView({Views.PlayerLevel.class, Views.SeasonDashboardView.class})
 	@Column(columnDefinition = "boolean default false")
 	private Boolean isRandomTeamSelection;
 }
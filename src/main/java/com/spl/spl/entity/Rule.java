@@ -4,6 +4,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
@@ -19,6 +22,7 @@ import lombok.Data;
 
 @Entity
 @Table(name = "rule")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.RULE)
 @Data
 public class Rule {
     
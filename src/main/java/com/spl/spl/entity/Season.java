@@ -2,6 +2,11 @@ package com.spl.spl.entity;
 
 import java.math.BigDecimal;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 import com.fasterxml.jackson.annotation.JsonView;
 import com.spl.spl.views.Views;
 import jakarta.persistence.Column;
@@ -10,6 +15,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
 
@@ -17,16 +23,22 @@ import lombok.Data;
 @Table(name = "season", uniqueConstraints = {
 	@UniqueConstraint(columnNames = "code")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SEASON)
+@NaturalIdCache(region = CacheRegions.SEASON_CODES)
 @Data
 public class Season {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "season_id")
+	@TableGenerator(name = "season_id", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+			valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "season", allocationSize = IdBlocks.BLOCK_SIZE)
 	@JsonView(Views.Base.class)
 	private Long id;
 
 	@JsonView(Views.Base.class)
 	@Column(unique = true)
+	@NaturalId(mutable = true)
+	@GeneratedCode(prefix = "S", overridable = true)
 	private String code;
 	
 	private Integer year;
@@ -1,5 +1,10 @@
 package com.spl.spl.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonView;
 import com.spl.spl.views.Views;
@@ -17,6 +22,8 @@ import lombok.Data;
 @Table(name = "team", uniqueConstraints = {
 	@UniqueConstraint(columnNames = "code")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TEAM)
+@NaturalIdCache(region = CacheRegions.TEAM_CODES)
 @Data
 public class Team {
 
@@ -27,6 +34,7 @@ public class Team {
 	
 	@JsonView(Views.Base.class)
 	@Column(unique = true)
+	@NaturalId(mutable = true)
 	private String code;
 	
 	@JsonView(Views.Summary.class)
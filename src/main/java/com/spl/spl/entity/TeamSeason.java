@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -71,10 +72,12 @@ public class TeamSeason {
 	
 	@JsonView(Views.TeamSeasonView.class)
 	@OneToMany(mappedBy = "teamSeason", fetch = FetchType.LAZY)
+	@BatchSize(size = 50)
 	private List<PlayerTeam> playerTeams;
 
 	@JsonView(Views.Summary.class)
 	@OneToMany(mappedBy = "teamSeason", fetch = FetchType.LAZY)
+	@BatchSize(size = 50)
 	private List<TeamSeasonPlayerLevel> teamSeasonPlayerLevels;
 
 	@CreatedDate
@@ -0,0 +1,7 @@
+package com.spl.spl.event;
+
+public enum PlayerStatus {
+	AVAILABLE,
+	SOLD,
+	UNSOLD
+}
@@ -0,0 +1,10 @@
+package com.spl.spl.event;
+
+public enum SeasonChangeType {
+	PLAYER_SOLD,
+	PLAYER_SALE_REVERTED,
+	PLAYER_UNSOLD,
+	PLAYER_UNSOLD_REVERTED,
+	SEASON_UPDATED,
+	ROSTER_UPDATED
+}
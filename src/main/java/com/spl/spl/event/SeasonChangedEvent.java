@@ -0,0 +1,40 @@
+package com.spl.spl.event;
+
+import java.util.List;
+
+import com.spl.spl.dto.PlayerTeamChangeDto;
+import com.spl.spl.dto.TeamSeasonTotalsDto;
+import com.spl.spl.dto.UnsoldPlayerChangeDto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Published inside a write transaction whenever auction data of a season changes.
+ * Listeners react after commit; a null seasonId marks a roster change that affects every season.
+ * The payload is a value snapshot taken before commit, so listeners never touch managed entities.
+ */
+@Data
+@Builder
+public class SeasonChangedEvent {
+
+	private final Long seasonId;
+
+	private final SeasonChangeType type;
+
+	private final String playerCode;
+
+	private final PlayerStatus playerStatus;
+
+	/* totals of every TeamSeason touched by the change, after recalculation */
+	private final List<TeamSeasonTotalsDto> teamSeasons;
+
+	/* PlayerTeam rows written or deleted by the change */
+	private final List<PlayerTeamChangeDto> playerTeams;
+
+	/* UnsoldPlayer rows written or deleted by the change */
+	private final List<UnsoldPlayerChangeDto> unsoldPlayers;
+
+	/* assigned by SeasonVersionService once the change is committed */
+	private long version;
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -114,6 +115,53 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ReportQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleReportQueueFullException(
+            ReportQueueFullException ex, WebRequest request) {
+        
+        log.warn("Report Queue Full Exception: {}", ex.getMessage());
+        
+        ErrorResponse.ErrorData errorData = ErrorResponse.ErrorData.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .code("REPORT_QUEUE_FULL")
+                .message(ex.getMessage())
+                .details("Too many reports are being generated, please submit the job again later")
+                .timestamp(LocalDateTime.now())
+                .path(getPath(request))
+                .build();
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .error(errorData)
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(ReportJobNotReadyException.class)
+    public ResponseEntity<ErrorResponse> handleReportJobNotReadyException(
+            ReportJobNotReadyException ex, WebRequest request) {
+        
+        log.warn("Report Job Not Ready Exception: {}", ex.getMessage());
+        
+        ErrorResponse.ErrorData errorData = ErrorResponse.ErrorData.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .code("REPORT_JOB_NOT_READY")
+                .message(ex.getMessage())
+                .details(String.format("The report job '%s' has no result to download while it is %s",
+                        ex.getJobId(), ex.getStatus()))
+                .timestamp(LocalDateTime.now())
+                .path(getPath(request))
+                .build();
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .error(errorData)
+                .build();
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(
             MethodArgumentNotValidException ex, WebRequest request) {
@@ -0,0 +1,25 @@
+package com.spl.spl.exception;
+
+import com.spl.spl.dto.ReportJobStatus;
+
+public class ReportJobNotReadyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String jobId;
+    private final ReportJobStatus status;
+
+    public ReportJobNotReadyException(String jobId, ReportJobStatus status) {
+        super(String.format("Report job %s is %s", jobId, status));
+        this.jobId = jobId;
+        this.status = status;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public ReportJobStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,24 @@
+package com.spl.spl.exception;
+
+public class ReportQueueFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int queueCapacity;
+    private final long retryAfterSeconds;
+
+    public ReportQueueFullException(int queueCapacity, long retryAfterSeconds) {
+        super(String.format("Report queue is full (%d jobs waiting), retry in %d seconds",
+              queueCapacity, retryAfterSeconds));
+        this.queueCapacity = queueCapacity;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,28 @@
+package com.spl.spl.repository;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Base class of every repository (see {@code @EnableJpaRepositories} on the application), so
+ * {@link NaturalIdRepository} works for any entity that declares a natural id.
+ */
+public class NaturalIdJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> implements NaturalIdRepository<T, ID> {
+
+	private final EntityManager entityManager;
+
+	public NaturalIdJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+		super(entityInformation, entityManager);
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	public Optional<T> findBySimpleNaturalId(Object naturalId) {
+		return entityManager.unwrap(Session.class).bySimpleNaturalId(getDomainClass()).loadOptional(naturalId);
+	}
+}
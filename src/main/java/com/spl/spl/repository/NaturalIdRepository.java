@@ -0,0 +1,21 @@
+package com.spl.spl.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Repository of an entity with a single {@code @NaturalId}. Lookups go through Hibernate's
+ * natural-id resolution, so with a {@code @NaturalIdCache} a known code costs no SQL at all.
+ */
+@NoRepositoryBean
+public interface NaturalIdRepository<T, ID> extends JpaRepository<T, ID> {
+
+	/**
+	 * @param naturalId Value of the entity's natural id, e.g. its code
+	 * @return The entity, or empty if none has that natural id
+	 * @example seasonRepository.findBySimpleNaturalId("S2025") -> Optional[Season{id=..., code="S2025"}]
+	 */
+	Optional<T> findBySimpleNaturalId(Object naturalId);
+}
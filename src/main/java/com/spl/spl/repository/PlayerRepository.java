@@ -1,27 +1,38 @@
 package com.spl.spl.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.spl.spl.dto.PlayerInfoDto;
+import com.spl.spl.dto.PlayerLevelCountDto;
 import com.spl.spl.entity.Player;
 
 public interface PlayerRepository extends JpaRepository<Player, Long> {
 
 	Player findByCode(String code);
+
+	/* id only, for CodeIdCache */
+	@Query("SELECT p.id FROM Player p WHERE p.code = :code")
+	Optional<Long> findIdByCode(@Param("code") String code);
+
+	List<Player> findByCodeIn(Collection<String> codes);
 	List<Player> findByIsActive(Boolean isActive);
 
+	@Query("SELECT p.code FROM Player p WHERE p.code IS NOT NULL")
+	List<String> findAllCodes();
+
+	/* NOT EXISTS stops at the first match per player (idx_player_level_active drives the scan) */
 	@Query("""
-		SELECT p FROM Player p 
-		LEFT JOIN PlayerTeam pt ON p.id = pt.player.id AND pt.teamSeason.season.id = :seasonId
-		LEFT JOIN UnsoldPlayer usp ON p.id = usp.player.id AND usp.season.id = :seasonId
+		SELECT p FROM Player p
 		WHERE p.playerLevel.id = :playerLevelId
-		AND pt.player.id IS NULL 
-		AND usp.player.id IS NULL
 		AND p.isActive = true
+		AND NOT EXISTS (SELECT 1 FROM PlayerTeam pt WHERE pt.player = p AND pt.teamSeason.season.id = :seasonId)
+		AND NOT EXISTS (SELECT 1 FROM UnsoldPlayer usp WHERE usp.player = p AND usp.season.id = :seasonId)
 		""")
 	List<Player> findPlayersNotInTeamByLevel(@Param("seasonId") Long seasonId, @Param("playerLevelId") Long playerLevelId);
 
@@ -44,5 +55,20 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
 		""")
 	List<PlayerInfoDto> findAllPlayers(@Param("seasonId") Long seasonId);
 
-	
+	@Query("""
+		SELECT new com.spl.spl.dto.PlayerLevelCountDto(p.playerLevel.code, COUNT(p))
+		FROM Player p
+		WHERE p.isActive = true
+		AND NOT EXISTS (SELECT 1 FROM PlayerTeam pt WHERE pt.player = p AND pt.teamSeason.season.id = :seasonId)
+		AND NOT EXISTS (SELECT 1 FROM UnsoldPlayer usp WHERE usp.player = p AND usp.season.id = :seasonId)
+		GROUP BY p.playerLevel.code
+		""")
+	List<PlayerLevelCountDto> countPlayersNotInTeamGroupByLevel(@Param("seasonId") Long seasonId);
+
+	@Query("""
+		SELECT COUNT(p) FROM Player p 
+		JOIN UnsoldPlayer usp ON p.id = usp.player.id AND usp.season.id = :seasonId
+		WHERE p.isActive = true
+		""")
+	long countUnsoldPlayers(@Param("seasonId") Long seasonId);
 }
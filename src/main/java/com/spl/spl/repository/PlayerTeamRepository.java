@@ -1,13 +1,21 @@
 package com.spl.spl.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.spl.spl.entity.PlayerTeam;
 import com.spl.spl.entity.PlayerTeamId;
 
 public interface PlayerTeamRepository extends JpaRepository<PlayerTeam, PlayerTeamId> {
 	PlayerTeam findByCode(String code);
+
+	/* composite id only, for CodeIdCache */
+	@Query("SELECT new com.spl.spl.entity.PlayerTeamId(pt.player.id, pt.teamSeason.id) FROM PlayerTeam pt WHERE pt.code = :code")
+	Optional<PlayerTeamId> findIdByCode(@Param("code") String code);
+
 	List<PlayerTeam> findByTeamSeasonId(Long teamSeasonId);
 }
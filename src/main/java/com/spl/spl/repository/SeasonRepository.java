@@ -1,9 +1,25 @@
 package com.spl.spl.repository;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import com.spl.spl.entity.Season;
 
-public interface SeasonRepository extends JpaRepository<Season, Long> {
+public interface SeasonRepository extends NaturalIdRepository<Season, Long> {
+
 	Season findByCode(String code);
+
+	/* natural-id lookup for internal callers, answered from the season code cache after the first hit */
+	default Optional<Season> findCachedByCode(String code) {
+		return findBySimpleNaturalId(code);
+	}
+
+	/* id only, for CodeIdCache */
+	@Query("SELECT s.id FROM Season s WHERE s.code = :code")
+	Optional<Long> findIdByCode(@Param("code") String code);
+
 	Season findByYear(Integer year);
-}
\ No newline at end of file
+	boolean existsByIdAndIsAuctionCompletedTrue(Long id);
+}
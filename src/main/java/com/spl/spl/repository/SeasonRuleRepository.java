@@ -2,20 +2,30 @@ package com.spl.spl.repository;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.spl.spl.entity.CacheRegions;
 import com.spl.spl.entity.Rule;
 import com.spl.spl.entity.SeasonRule;
 import com.spl.spl.entity.SeasonRuleId;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface SeasonRuleRepository extends JpaRepository<SeasonRule, SeasonRuleId> {
     
     SeasonRule findByCode(String code);
     
+    /* cached per (season, context); entries drop when season_rule or rule rows change */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.SEASON_RULES)
+    })
     @Query("SELECT sr.rule FROM SeasonRule sr WHERE sr.season.id = :seasonId AND sr.rule.context = :context AND sr.rule.isActive = true ORDER BY sr.rule.priority")
     List<Rule> findBySeasonIdAndRuleContext(@Param("seasonId") Long seasonId, @Param("context") String context);
 }
\ No newline at end of file
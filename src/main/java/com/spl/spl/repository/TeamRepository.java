@@ -1,8 +1,15 @@
 package com.spl.spl.repository;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Optional;
+
 import com.spl.spl.entity.Team;
 
-public interface TeamRepository extends JpaRepository<Team, Long> {
+public interface TeamRepository extends NaturalIdRepository<Team, Long> {
+
 	Team findByCode(String code);
+
+	/* natural-id lookup for internal callers, answered from the team code cache after the first hit */
+	default Optional<Team> findCachedByCode(String code) {
+		return findBySimpleNaturalId(code);
+	}
 }
\ No newline at end of file
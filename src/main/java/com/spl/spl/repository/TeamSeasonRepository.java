@@ -1,11 +1,39 @@
 package com.spl.spl.repository;
 
 import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.spl.spl.entity.TeamSeason;
 
 public interface TeamSeasonRepository extends JpaRepository<TeamSeason, Long> {
 	TeamSeason findByCode(String code);
+
+	/* id only, for CodeIdCache */
+	@Query("SELECT ts.id FROM TeamSeason ts WHERE ts.code = :code")
+	Optional<Long> findIdByCode(@Param("code") String code);
+
 	TeamSeason findByTeamCodeAndSeasonCode(String teamCode, String seasonCode);
-	List<TeamSeason> findBySeasonId(Long seasonId);	
-}
\ No newline at end of file
+	List<TeamSeason> findBySeasonId(Long seasonId);
+
+	/* ids only, to version the squads of a season before they are loaded */
+	@Query("SELECT ts.id FROM TeamSeason ts WHERE ts.season.id = :seasonId")
+	List<Long> findIdsBySeasonId(@Param("seasonId") Long seasonId);
+
+	/* Fetch plan for Views.TeamSeasonsView: team, season and level summaries in one query */
+	@EntityGraph(attributePaths = {"team", "season", "teamSeasonPlayerLevels", "teamSeasonPlayerLevels.playerLevel"})
+	List<TeamSeason> findWithLevelsBySeasonId(Long seasonId);
+
+	/* Fetch plan for Views.TeamSeasonView: squad joined here, level summaries are batch fetched */
+	@EntityGraph(attributePaths = {"team", "season", "playerTeams", "playerTeams.player",
+			"playerTeams.player.playerLevel", "playerTeams.player.category"})
+	Optional<TeamSeason> findDetailedById(Long id);
+
+	/* Fetch plan for the season squad PDF bundle: every squad of the season in one query */
+	@EntityGraph(attributePaths = {"team", "season", "playerTeams", "playerTeams.player",
+			"playerTeams.player.playerLevel", "playerTeams.player.category"})
+	List<TeamSeason> findSquadsBySeasonId(Long seasonId);
+}
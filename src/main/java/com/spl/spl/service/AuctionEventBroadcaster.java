@@ -0,0 +1,155 @@
+package com.spl.spl.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.spl.spl.dto.AuctionEventDto;
+import com.spl.spl.event.SeasonChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans committed auction changes out to Server-Sent Event subscribers of a season.
+ * Every subscriber owns a bounded buffer; when a slow client falls behind, the oldest
+ * pending events are dropped so one stalled screen never holds back the others.
+ */
+@Service
+@Slf4j
+public class AuctionEventBroadcaster {
+
+	private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+	private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+	private final int bufferSize;
+	private final long timeoutMillis;
+
+	public AuctionEventBroadcaster(
+			@Value("${spl.events.subscriber-buffer-size:64}") int bufferSize,
+			@Value("${spl.events.sse-timeout-millis:1800000}") long timeoutMillis) {
+		this.bufferSize = bufferSize;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	/**
+	 * Registers a new event stream for a season.
+	 *
+	 * @param seasonId The season ID to follow (must not be null)
+	 * @return Emitter that receives every committed change of the season
+	 */
+	public SseEmitter subscribe(Long seasonId) {
+		SseEmitter emitter = createEmitter();
+		Subscriber subscriber = new Subscriber(seasonId, emitter);
+		subscribers.computeIfAbsent(seasonId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onTimeout(() -> remove(subscriber));
+		emitter.onError(e -> remove(subscriber));
+		return emitter;
+	}
+
+	public int subscriberCount(Long seasonId) {
+		Set<Subscriber> seasonSubscribers = subscribers.get(seasonId);
+		return seasonSubscribers != null ? seasonSubscribers.size() : 0;
+	}
+
+	/* overridden in tests to watch what a subscriber is sent */
+	SseEmitter createEmitter() {
+		return new SseEmitter(timeoutMillis);
+	}
+
+	@Order(10)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSeasonChanged(SeasonChangedEvent event) {
+		if (event.getSeasonId() == null) {
+			return;
+		}
+		Set<Subscriber> seasonSubscribers = subscribers.get(event.getSeasonId());
+		if (seasonSubscribers == null || seasonSubscribers.isEmpty()) {
+			return;
+		}
+		AuctionEventDto payload = new AuctionEventDto(event);
+		for (Subscriber subscriber : seasonSubscribers) {
+			if (subscriber.offer(payload)) {
+				sender.execute(subscriber::drain);
+			}
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		sender.shutdownNow();
+		subscribers.values().forEach(seasonSubscribers -> seasonSubscribers.forEach(s -> s.emitter.complete()));
+		subscribers.clear();
+	}
+
+	private void remove(Subscriber subscriber) {
+		Set<Subscriber> seasonSubscribers = subscribers.get(subscriber.seasonId);
+		if (seasonSubscribers != null) {
+			seasonSubscribers.remove(subscriber);
+		}
+	}
+
+	private class Subscriber {
+
+		private final Long seasonId;
+		private final SseEmitter emitter;
+		private final Deque<AuctionEventDto> buffer = new ArrayDeque<>();
+		private boolean draining;
+
+		Subscriber(Long seasonId, SseEmitter emitter) {
+			this.seasonId = seasonId;
+			this.emitter = emitter;
+		}
+
+		/* Buffers an event, dropping the oldest one when full; returns true if a drain must be scheduled */
+		synchronized boolean offer(AuctionEventDto event) {
+			if (buffer.size() >= bufferSize) {
+				buffer.pollFirst();
+			}
+			buffer.addLast(event);
+			if (draining) {
+				return false;
+			}
+			draining = true;
+			return true;
+		}
+
+		synchronized AuctionEventDto next() {
+			AuctionEventDto event = buffer.pollFirst();
+			if (event == null) {
+				draining = false;
+			}
+			return event;
+		}
+
+		void drain() {
+			AuctionEventDto event;
+			while ((event = next()) != null) {
+				try {
+					emitter.send(SseEmitter.event()
+							.id(Long.toString(event.getVersion()))
+							.name(event.getType().name())
+							.data(event));
+				} catch (IOException | IllegalStateException e) {
+					log.debug("Dropping auction event subscriber for season {}: {}", seasonId, e.getMessage());
+					remove(this);
+					emitter.completeWithError(e);
+					return;
+				}
+			}
+		}
+	}
+}
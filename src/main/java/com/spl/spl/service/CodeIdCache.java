@@ -0,0 +1,127 @@
+package com.spl.spl.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.spl.spl.dto.PlayerTeamChangeDto;
+import com.spl.spl.entity.PlayerTeam;
+import com.spl.spl.event.SeasonChangedEvent;
+
+/**
+ * Remembers which id a client-facing code belongs to, one LRU per entity type, so commands load
+ * their rows by primary key instead of querying by code. Filled on the first lookup of a code;
+ * unknown codes are not remembered. Entries are dropped when the row is deleted or its code may
+ * have changed, and an id whose row has gone is dropped and looked up again by code when it is
+ * next used.
+ */
+@Service
+public class CodeIdCache {
+
+	private final int maxEntriesPerType;
+	private final Map<Class<?>, LinkedHashMap<String, Object>> idsByType = new ConcurrentHashMap<>();
+
+	public CodeIdCache(@Value("${spl.code-id-cache.max-entries-per-type:10000}") int maxEntriesPerType) {
+		this.maxEntriesPerType = maxEntriesPerType;
+	}
+
+	/**
+	 * Resolves a code to the id of its row, querying only on the first lookup.
+	 *
+	 * @param type Entity type the code belongs to
+	 * @param code Code sent by the client
+	 * @param idLookup Id-only query by code, e.g. playerRepository::findIdByCode
+	 * @return The id, or empty if no row has this code
+	 * @example resolve(Player.class, "pl42", playerRepository::findIdByCode) -> Optional[42]
+	 */
+	@SuppressWarnings("unchecked")
+	public <ID> Optional<ID> resolve(Class<?> type, String code, Function<String, Optional<ID>> idLookup) {
+		if (code == null) {
+			return Optional.empty();
+		}
+		LinkedHashMap<String, Object> ids = idsOf(type);
+		synchronized (ids) {
+			Object id = ids.get(code);
+			if (id != null) {
+				return Optional.of((ID) id);
+			}
+		}
+		Optional<ID> id = idLookup.apply(code);
+		id.ifPresent(value -> {
+			synchronized (ids) {
+				ids.put(code, value);
+			}
+		});
+		return id;
+	}
+
+	/**
+	 * Loads the row of a code by primary key. A remembered id whose row no longer exists is
+	 * forgotten and the code is looked up once more, so a code that moved to another row is
+	 * still found.
+	 *
+	 * @param type Entity type the code belongs to
+	 * @param code Code sent by the client
+	 * @param idLookup Id-only query by code
+	 * @param loader Primary-key lookup, e.g. playerRepository::findById
+	 * @return The entity, or empty if no row has this code
+	 */
+	public <T, ID> Optional<T> find(Class<T> type, String code, Function<String, Optional<ID>> idLookup,
+			Function<ID, Optional<T>> loader) {
+		Optional<ID> id = resolve(type, code, idLookup);
+		Optional<T> entity = id.flatMap(loader);
+		if (entity.isEmpty() && id.isPresent()) {
+			invalidate(type, code);
+			entity = resolve(type, code, idLookup).flatMap(loader);
+			if (entity.isEmpty()) {
+				invalidate(type, code);
+			}
+		}
+		return entity;
+	}
+
+	public void invalidate(Class<?> type, String code) {
+		LinkedHashMap<String, Object> ids = idsOf(type);
+		synchronized (ids) {
+			ids.remove(code);
+		}
+	}
+
+	/* for writes that may have changed any code of the type */
+	public void invalidateAll(Class<?> type) {
+		LinkedHashMap<String, Object> ids = idsOf(type);
+		synchronized (ids) {
+			ids.clear();
+		}
+	}
+
+	@Order(5)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSeasonChanged(SeasonChangedEvent event) {
+		if (event.getPlayerTeams() == null) {
+			return;
+		}
+		event.getPlayerTeams().stream()
+				.filter(PlayerTeamChangeDto::isDeleted)
+				.forEach(change -> invalidate(PlayerTeam.class, change.getCode()));
+	}
+
+	private LinkedHashMap<String, Object> idsOf(Class<?> type) {
+		return idsByType.computeIfAbsent(type, key -> new LinkedHashMap<>(64, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+				return size() > maxEntriesPerType;
+			}
+		});
+	}
+}
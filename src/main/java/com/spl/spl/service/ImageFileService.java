@@ -0,0 +1,149 @@
+package com.spl.spl.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import com.spl.spl.dto.ImageVariant;
+import com.spl.spl.exception.ResourceNotFoundException;
+
+/**
+ * Resolves and reads image files below the image root (player uploads, team logos, category
+ * icons). File bodies are copied with {@link FileChannel#transferTo} so they do not pass through
+ * heap buffers; the hottest thumbnails are additionally kept in a small byte-bounded LRU.
+ */
+@Service
+public class ImageFileService {
+
+	/* names written by ImageStorageService: sha-256 of the content, optional variant suffix */
+	private static final Pattern CONTENT_HASHED = Pattern.compile("[0-9a-f]{64}(-[a-z]+)?\\.[a-z0-9]{1,5}");
+	private static final String THUMBNAIL_SUFFIX = "-" + ImageVariant.THUMBNAIL.getSuffix() + ".jpg";
+
+	private final Path root;
+	private final long thumbnailCacheBytes;
+
+	private final LinkedHashMap<String, byte[]> thumbnails = new LinkedHashMap<>(64, 0.75f, true);
+	private long cachedBytes;
+
+	public ImageFileService(@Value("${spl.images.root:${user.home}/spl/images}") Path root,
+			@Value("${spl.images.thumbnail-cache-bytes:4194304}") long thumbnailCacheBytes) {
+		this.root = root.toAbsolutePath().normalize();
+		this.thumbnailCacheBytes = thumbnailCacheBytes;
+	}
+
+	/**
+	 * Looks up an image below the image root.
+	 *
+	 * @param relativePath Path below the root, e.g. "players/9f86...0a08-thumb.jpg"
+	 * @return Size, modification time, validator and content type of the file
+	 * @throws ResourceNotFoundException if the path leaves the root, is not a file or not an image
+	 * @example resolve("teams/strikers.png") -> ImageFile{length=48213, etag="\"18f2c4a1b30-bc55\"", contentType=image/png}
+	 */
+	public ImageFile resolve(String relativePath) {
+		Path path = root.resolve(relativePath.startsWith("/") ? relativePath.substring(1) : relativePath).normalize();
+		MediaType contentType = MediaTypeFactory.getMediaType(path.getFileName().toString()).orElse(null);
+		if (!path.startsWith(root) || path.equals(root) || contentType == null
+				|| !"image".equals(contentType.getType())) {
+			throw new ResourceNotFoundException("Image", relativePath);
+		}
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		} catch (IOException e) {
+			throw new ResourceNotFoundException("Image", relativePath);
+		}
+		if (!attributes.isRegularFile()) {
+			throw new ResourceNotFoundException("Image", relativePath);
+		}
+
+		String fileName = path.getFileName().toString();
+		boolean immutable = CONTENT_HASHED.matcher(fileName).matches();
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		// the content hash is the best validator there is; other files fall back to mtime and size
+		String etag = immutable
+				? "\"" + fileName.substring(0, fileName.lastIndexOf('.')) + "\""
+				: "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(attributes.size()) + "\"";
+		return new ImageFile(path, attributes.size(), lastModified, etag, contentType, immutable);
+	}
+
+	/**
+	 * Returns a thumbnail from memory, loading it on first use. Other images are not cached.
+	 *
+	 * @param image A resolved image
+	 * @return The file content, or null if the image is not a thumbnail
+	 */
+	public byte[] cachedThumbnail(ImageFile image) {
+		if (!image.path().getFileName().toString().endsWith(THUMBNAIL_SUFFIX) || image.length() > thumbnailCacheBytes) {
+			return null;
+		}
+		// the modification time keeps a replaced file from being served stale
+		String key = image.path() + "@" + image.lastModified();
+		synchronized (this) {
+			byte[] content = thumbnails.get(key);
+			if (content != null) {
+				return content;
+			}
+		}
+		byte[] content;
+		try {
+			content = Files.readAllBytes(image.path());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		synchronized (this) {
+			if (thumbnails.put(key, content) == null) {
+				cachedBytes += content.length;
+			}
+			Iterator<Map.Entry<String, byte[]>> eldest = thumbnails.entrySet().iterator();
+			while (cachedBytes > thumbnailCacheBytes && eldest.hasNext()) {
+				cachedBytes -= eldest.next().getValue().length;
+				eldest.remove();
+			}
+		}
+		return content;
+	}
+
+	/**
+	 * Copies a byte range of an image to a stream through the file channel.
+	 *
+	 * @param image A resolved image
+	 * @param start Offset of the first byte
+	 * @param count Number of bytes to copy
+	 * @param out Destination, e.g. the servlet response stream
+	 */
+	public void transferTo(ImageFile image, long start, long count, OutputStream out) throws IOException {
+		try (FileChannel channel = FileChannel.open(image.path(), StandardOpenOption.READ)) {
+			WritableByteChannel target = Channels.newChannel(out);
+			long position = start;
+			long remaining = count;
+			while (remaining > 0) {
+				long sent = channel.transferTo(position, remaining, target);
+				if (sent <= 0) {
+					break;
+				}
+				position += sent;
+				remaining -= sent;
+			}
+		}
+	}
+
+	public record ImageFile(Path path, long length, long lastModified, String etag, MediaType contentType,
+			boolean immutable) {
+	}
+}
@@ -0,0 +1,274 @@
+package com.spl.spl.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.spl.spl.dto.ImageVariant;
+import com.spl.spl.dto.PlayerImageDto;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores uploaded player images by content hash and derives thumbnail, card and full-size JPEG
+ * variants on a bounded worker pool. Stored paths never change content, so identical uploads
+ * share one file and clients may cache them forever. The upload returns as soon as the original
+ * is on disk; when the pool is saturated the variants are produced on the uploading thread.
+ */
+@Service
+@Slf4j
+public class ImageStorageService {
+
+	private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+	private static final float JPEG_QUALITY = 0.85f;
+
+	private final Path directory;
+	private final String urlPrefix;
+	private final ThreadPoolExecutor variantPool;
+
+	public ImageStorageService(
+			@Value("${spl.images.dir:${user.home}/spl/images/players}") Path directory,
+			@Value("${spl.images.url-prefix:/api/images/players/}") String urlPrefix,
+			@Value("${spl.images.threads:2}") int threads,
+			@Value("${spl.images.queue-capacity:50}") int queueCapacity) {
+		this.directory = directory;
+		this.urlPrefix = urlPrefix;
+		this.variantPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * Stores an uploaded image under the SHA-256 of its content, hashing while it streams to disk.
+	 * An image that is already stored is not written again and keeps its variants.
+	 *
+	 * @param file Uploaded image (at most 5MB)
+	 * @return Immutable URL of the original and of each variant
+	 * @throws IllegalArgumentException if the file is empty, too large or not an image
+	 * @example store(file) -> PlayerImageDto{imageUrl=".../9f86d0...0a08.png", variants={THUMBNAIL=".../9f86d0...0a08-thumb.jpg", ...}}
+	 */
+	public PlayerImageDto store(MultipartFile file) {
+		validate(file);
+		try (InputStream inputStream = file.getInputStream()) {
+			return store(inputStream, file.getOriginalFilename());
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to upload file: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Stores an image read from a stream, e.g. a ZIP entry. The stream is not closed.
+	 *
+	 * @param inputStream Image content, at most 5MB is read
+	 * @param fileName Original file name, used for the extension
+	 * @return Immutable URL of the original and of each variant
+	 * @throws IllegalArgumentException if the content exceeds 5MB
+	 */
+	public PlayerImageDto store(InputStream inputStream, String fileName) throws IOException {
+		String extension = extensionOf(fileName);
+		String hash;
+		boolean created;
+		Files.createDirectories(directory);
+		Path temporary = Files.createTempFile(directory, "upload-", ".tmp");
+		try {
+			MessageDigest digest = sha256();
+			try (OutputStream outputStream = Files.newOutputStream(temporary)) {
+				copyAtMost(new DigestInputStream(inputStream, digest), outputStream, MAX_FILE_SIZE);
+			}
+			hash = HexFormat.of().formatHex(digest.digest());
+			created = moveIfAbsent(temporary, directory.resolve(hash + extension));
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
+
+		Path original = directory.resolve(hash + extension);
+		if (created || !Files.exists(directory.resolve(variantFilename(hash, ImageVariant.THUMBNAIL)))) {
+			variantPool.execute(() -> writeVariants(original, hash));
+		}
+
+		Map<ImageVariant, String> variants = new EnumMap<>(ImageVariant.class);
+		for (ImageVariant variant : ImageVariant.values()) {
+			variants.put(variant, urlPrefix + variantFilename(hash, variant));
+		}
+		return PlayerImageDto.builder()
+				.imageUrl(urlPrefix + hash + extension)
+				.variants(variants)
+				.build();
+	}
+
+	/* the declared size of a multipart part or ZIP entry cannot be trusted, count what is read */
+	private void copyAtMost(InputStream inputStream, OutputStream outputStream, long limit) throws IOException {
+		byte[] buffer = new byte[8192];
+		long total = 0;
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			total += read;
+			if (total > limit) {
+				throw new IllegalArgumentException("File size exceeds 5MB limit");
+			}
+			outputStream.write(buffer, 0, read);
+		}
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/* content-addressed: an existing file already holds exactly these bytes */
+	private boolean moveIfAbsent(Path temporary, Path target) throws IOException {
+		if (Files.exists(target)) {
+			return false;
+		}
+		try {
+			Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+			return true;
+		} catch (FileAlreadyExistsException e) {
+			return false;
+		}
+	}
+
+	private String extensionOf(String originalFilename) {
+		if (originalFilename == null || !originalFilename.contains(".")) {
+			return "";
+		}
+		String extension = originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase(Locale.ROOT);
+		// the extension ends up in a URL path, keep it to plain characters
+		return extension.matches("\\.[a-z0-9]{1,5}") ? extension : "";
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		variantPool.shutdown();
+	}
+
+	private void validate(MultipartFile file) {
+		if (file.isEmpty()) {
+			throw new IllegalArgumentException("File is empty");
+		}
+		if (file.getSize() > MAX_FILE_SIZE) {
+			throw new IllegalArgumentException("File size exceeds 5MB limit");
+		}
+		String contentType = file.getContentType();
+		if (contentType == null || !contentType.startsWith("image/")) {
+			throw new IllegalArgumentException("File must be an image");
+		}
+	}
+
+	private void writeVariants(Path original, String hash) {
+		try {
+			BufferedImage source = ImageIO.read(original.toFile());
+			if (source == null) {
+				log.warn("No variants for {}: unsupported image format", original.getFileName());
+				return;
+			}
+			// largest first, each smaller variant is scaled from the previous one
+			BufferedImage previous = source;
+			for (int i = ImageVariant.values().length - 1; i >= 0; i--) {
+				ImageVariant variant = ImageVariant.values()[i];
+				previous = resize(previous, variant.getMaxSide());
+				writeJpeg(previous, directory.resolve(variantFilename(hash, variant)));
+			}
+		} catch (IOException | UncheckedIOException e) {
+			log.warn("Could not create variants for {}: {}", original.getFileName(), e.getMessage());
+		}
+	}
+
+	/* halves in steps down to the target so large reductions stay sharp, then scales the remainder */
+	private BufferedImage resize(BufferedImage source, int maxSide) {
+		BufferedImage image = toRgb(source);
+		int longest = Math.max(image.getWidth(), image.getHeight());
+		if (longest <= maxSide) {
+			return image;
+		}
+		while (longest / 2 >= maxSide) {
+			image = scale(image, image.getWidth() / 2, image.getHeight() / 2);
+			longest /= 2;
+		}
+		double ratio = (double) maxSide / longest;
+		return scale(image, Math.max(1, (int) Math.round(image.getWidth() * ratio)),
+				Math.max(1, (int) Math.round(image.getHeight() * ratio)));
+	}
+
+	private BufferedImage scale(BufferedImage source, int width, int height) {
+		BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = scaled.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(source, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return scaled;
+	}
+
+	/* JPEG has no alpha channel: flatten transparent uploads onto white */
+	private BufferedImage toRgb(BufferedImage source) {
+		if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+			return source;
+		}
+		BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = rgb.createGraphics();
+		try {
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+			graphics.drawImage(source, 0, 0, null);
+		} finally {
+			graphics.dispose();
+		}
+		return rgb;
+	}
+
+	private void writeJpeg(BufferedImage image, Path target) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ImageWriteParam param = writer.getDefaultWriteParam();
+		param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+		param.setCompressionQuality(JPEG_QUALITY);
+		// write next to the target and move, so readers never see a half-written variant
+		Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+		try (ImageOutputStream output = ImageIO.createImageOutputStream(temporary.toFile())) {
+			writer.setOutput(output);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private String variantFilename(String hash, ImageVariant variant) {
+		return hash + "-" + variant.getSuffix() + ".jpg";
+	}
+}
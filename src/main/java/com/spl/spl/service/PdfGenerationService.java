@@ -1,14 +1,28 @@
 package com.spl.spl.service;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
+import com.itextpdf.layout.Style;
 import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
@@ -18,103 +32,161 @@ import com.spl.spl.entity.PlayerTeam;
 import com.spl.spl.entity.TeamSeason;
 import com.spl.spl.entity.TeamSeasonPlayerLevel;
 
-import lombok.RequiredArgsConstructor;
-
 @Service
-@RequiredArgsConstructor
 public class PdfGenerationService {
 
+    /* parsed once; a PdfFont is bound to one document, the program behind it is not */
+    private static final FontProgram FONT_PROGRAM = loadFontProgram();
+
+    /* styles carry no font and are never modified after this point, so documents share them */
+    private static final Style TITLE = new Style().setFontSize(20).setBold().setTextAlignment(TextAlignment.CENTER);
+    private static final Style SUBTITLE = new Style().setFontSize(12).setTextAlignment(TextAlignment.CENTER);
+    private static final Style SECTION = new Style().setFontSize(14).setBold();
+    private static final Style COLUMN_HEADER = new Style().setBold();
+    private static final Style GRAND_TOTAL = new Style().setFontSize(16).setBold().setTextAlignment(TextAlignment.CENTER);
+
+    private static final float[] MANAGER_COLUMNS = {3, 2};
+    private static final float[] PLAYER_COLUMNS = {3, 2, 2};
+
+    /* rows laid out and written per flush of a player table */
+    private static final int ROWS_PER_FLUSH = 20;
+
+    private static final ThreadLocal<DecimalFormat> GROUPED = ThreadLocal.withInitial(() -> new DecimalFormat("#,##0"));
+    private static final ThreadLocal<DecimalFormat> ONE_DECIMAL = ThreadLocal.withInitial(() -> {
+        DecimalFormat format = new DecimalFormat("0.0");
+        format.setRoundingMode(RoundingMode.HALF_UP);
+        return format;
+    });
+
     public byte[] generateTeamSquadPdf(TeamSeason teamSeason) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            PdfWriter writer = new PdfWriter(baos);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeTeamSquadPdf(teamSeason, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Writes the squad PDF straight to a stream. Player tables are large elements whose rows are laid
+     * out and flushed as they are added, so neither a whole table nor the whole file is held in
+     * memory. The stream is left open for the caller.
+     *
+     * @param teamSeason Team season with team, season, squad and level summaries loaded
+     * @param out Destination, e.g. the servlet response stream
+     */
+    public void writeTeamSquadPdf(TeamSeason teamSeason, OutputStream out) {
+        try {
+            PdfWriter writer = new PdfWriter(out);
+            writer.setCloseStream(false);
             PdfDocument pdfDoc = new PdfDocument(writer);
             Document document = new Document(pdfDoc);
+            document.setFont(PdfFontFactory.createFont(FONT_PROGRAM, PdfEncodings.WINANSI));
 
             // Header
-            document.add(new Paragraph(teamSeason.getTeam().getName())
-                    .setFontSize(20)
-                    .setBold()
-                    .setTextAlignment(TextAlignment.CENTER));
-            
-            document.add(new Paragraph("Season: " + teamSeason.getSeason().getCode() + 
+            document.add(new Paragraph(teamSeason.getTeam().getName()).addStyle(TITLE));
+
+            document.add(new Paragraph("Season: " + teamSeason.getSeason().getCode() +
                     " | Budget: " + formatAmount(teamSeason.getSeason().getBudgetLimit()) +
                     " | Spent: " + formatAmount(teamSeason.getTotalAmountSpent()))
-                    .setFontSize(12)
-                    .setTextAlignment(TextAlignment.CENTER));
+                    .addStyle(SUBTITLE));
+
+            // One pass over the squad: the manager and the players of each level
+            PlayerTeam manager = null;
+            Map<String, List<PlayerTeam>> playersByLevel = new HashMap<>();
+            for (PlayerTeam playerTeam : teamSeason.getPlayerTeams()) {
+                if (Boolean.TRUE.equals(playerTeam.getIsManager())) {
+                    if (manager == null) {
+                        manager = playerTeam;
+                    }
+                } else {
+                    playersByLevel.computeIfAbsent(playerTeam.getPlayer().getPlayerLevel().getCode(),
+                            code -> new ArrayList<>()).add(playerTeam);
+                }
+            }
 
             // Manager Section
-            PlayerTeam manager = teamSeason.getPlayerTeams().stream()
-                    .filter(PlayerTeam::getIsManager)
-                    .findFirst()
-                    .orElse(null);
-
             if (manager != null) {
-                document.add(new Paragraph("\nTeam Manager").setFontSize(14).setBold());
-                Table managerTable = new Table(UnitValue.createPercentArray(new float[]{3, 2}));
+                document.add(new Paragraph("\nTeam Manager").addStyle(SECTION));
+                Table managerTable = new Table(UnitValue.createPercentArray(MANAGER_COLUMNS));
                 managerTable.setWidth(UnitValue.createPercentValue(100));
-                
-                managerTable.addHeaderCell(new Cell().add(new Paragraph("Name").setBold()));
-                managerTable.addHeaderCell(new Cell().add(new Paragraph("Amount").setBold()));
-                
+
+                managerTable.addHeaderCell(headerCell("Name"));
+                managerTable.addHeaderCell(headerCell("Amount"));
+
                 managerTable.addCell(manager.getPlayer().getName());
                 managerTable.addCell(formatAmount(manager.getSoldAmount()));
-                
+
                 document.add(managerTable);
             }
 
             // Players by Level
             for (TeamSeasonPlayerLevel level : teamSeason.getTeamSeasonPlayerLevels()) {
-                List<PlayerTeam> levelPlayers = teamSeason.getPlayerTeams().stream()
-                        .filter(pt -> !pt.getIsManager() && 
-                                pt.getPlayer().getPlayerLevel().getCode().equals(level.getPlayerLevel().getCode()))
-                        .toList();
+                List<PlayerTeam> levelPlayers = playersByLevel.get(level.getPlayerLevel().getCode());
 
-                if (!levelPlayers.isEmpty()) {
-                    document.add(new Paragraph("\n" + level.getPlayerLevel().getCode().toUpperCase() + 
+                if (levelPlayers != null) {
+                    document.add(new Paragraph("\n" + level.getPlayerLevel().getCode().toUpperCase() +
                             " Level Players (Total: " + formatAmount(level.getTotalAmountSpent()) + ")")
-                            .setFontSize(14).setBold());
+                            .addStyle(SECTION));
 
-                    Table playerTable = new Table(UnitValue.createPercentArray(new float[]{3, 2, 2}));
+                    // Large table: added before its rows, laid out and written every few rows
+                    Table playerTable = new Table(UnitValue.createPercentArray(PLAYER_COLUMNS), true);
                     playerTable.setWidth(UnitValue.createPercentValue(100));
-                    
-                    playerTable.addHeaderCell(new Cell().add(new Paragraph("Player Name").setBold()));
-                    playerTable.addHeaderCell(new Cell().add(new Paragraph("Category").setBold()));
-                    playerTable.addHeaderCell(new Cell().add(new Paragraph("Amount").setBold()));
 
+                    playerTable.addHeaderCell(headerCell("Player Name"));
+                    playerTable.addHeaderCell(headerCell("Category"));
+                    playerTable.addHeaderCell(headerCell("Amount"));
+                    document.add(playerTable);
+
+                    int rows = 0;
                     for (PlayerTeam playerTeam : levelPlayers) {
                         playerTable.addCell(playerTeam.getPlayer().getName());
-                        playerTable.addCell(playerTeam.getPlayer().getCategory() != null ? 
+                        playerTable.addCell(playerTeam.getPlayer().getCategory() != null ?
                                 playerTeam.getPlayer().getCategory().getName() : "N/A");
                         playerTable.addCell(formatAmount(playerTeam.getSoldAmount()));
+                        if (++rows % ROWS_PER_FLUSH == 0) {
+                            playerTable.flush();
+                        }
                     }
-                    
-                    document.add(playerTable);
+
+                    playerTable.complete();
                 }
             }
 
             // Grand Total
             document.add(new Paragraph("\nGrand Total: " + formatAmount(teamSeason.getTotalAmountSpent()))
-                    .setFontSize(16)
-                    .setBold()
-                    .setTextAlignment(TextAlignment.CENTER));
+                    .addStyle(GRAND_TOTAL));
 
             document.close();
-            return baos.toByteArray();
         } catch (Exception e) {
             throw new RuntimeException("Error generating PDF", e);
         }
     }
 
-    private String formatAmount(BigDecimal amount) {
+    public String squadPdfFileName(TeamSeason teamSeason) {
+        return teamSeason.getTeam().getName() + "_Squad_" + teamSeason.getSeason().getCode() + ".pdf";
+    }
+
+    private Cell headerCell(String text) {
+        return new Cell().add(new Paragraph(text).addStyle(COLUMN_HEADER));
+    }
+
+    String formatAmount(BigDecimal amount) {
         if (amount == null) return "₹0";
-        
+
         long value = amount.longValue();
+        // scaled exactly, a double quotient would round 1.15 down to 1.1 where String.format gave 1.2
         if (value >= 10000000) {
-            return "₹" + String.format("%.1f", value / 10000000.0) + "Cr";
+            return "₹" + ONE_DECIMAL.get().format(BigDecimal.valueOf(value, 7)) + "Cr";
         } else if (value >= 100000) {
-            return "₹" + String.format("%.1f", value / 100000.0) + "L";
+            return "₹" + ONE_DECIMAL.get().format(BigDecimal.valueOf(value, 5)) + "L";
         } else {
-            return "₹" + String.format("%,d", value);
+            return "₹" + GROUPED.get().format(value);
+        }
+    }
+
+    private static FontProgram loadFontProgram() {
+        try {
+            return FontProgramFactory.createFont(StandardFonts.HELVETICA);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
-}
\ No newline at end of file
+}
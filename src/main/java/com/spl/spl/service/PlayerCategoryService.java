@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.spl.spl.entity.PlayerCategory;
 import com.spl.spl.repository.PlayerCategoryRepository;
@@ -14,6 +15,7 @@ public class PlayerCategoryService {
     @Autowired
     private PlayerCategoryRepository playerCategoryRepository;
 
+    @Transactional(readOnly = true)
     public List<PlayerCategory> getAllActiveCategories() {
         return playerCategoryRepository.findByIsActiveTrue();
     }
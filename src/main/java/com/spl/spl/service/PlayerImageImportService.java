@@ -0,0 +1,146 @@
+package com.spl.spl.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import com.spl.spl.dto.ImageImportReportDto;
+import com.spl.spl.dto.ImageImportResultDto;
+import com.spl.spl.dto.ImageImportStatus;
+import com.spl.spl.dto.PlayerImageDto;
+import com.spl.spl.exception.SplBadRequestException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports player photos from a ZIP archive. Entries are read straight from the archive stream
+ * and matched to players by file name ("pl12.jpg" belongs to player "pl12"). Each image is held
+ * by at most one 8KB buffer while it is hashed to disk; resizing runs on the bounded image pool,
+ * which falls back to the importing thread when it is saturated, so memory stays flat whatever
+ * the archive size.
+ */
+@Service
+@Slf4j
+public class PlayerImageImportService {
+
+	private final ImageStorageService imageStorageService;
+	private final PlayerService playerService;
+	private final int maxEntries;
+
+	public PlayerImageImportService(ImageStorageService imageStorageService, PlayerService playerService,
+			@Value("${spl.images.import.max-entries:2000}") int maxEntries) {
+		this.imageStorageService = imageStorageService;
+		this.playerService = playerService;
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Stores every image of the archive whose name matches a player code and updates the
+	 * players' image URLs in one batched write.
+	 *
+	 * @param archive ZIP content, read once and not closed
+	 * @return One result per archive entry
+	 * @throws SplBadRequestException if the archive cannot be read or has too many entries
+	 * @example importZip(zip of pl1.jpg, pl2.png, readme.txt) -> imported=2, skipped=1
+	 */
+	public ImageImportReportDto importZip(InputStream archive) {
+		Map<String, String> codesByLowerCase = new HashMap<>();
+		for (String code : playerService.getPlayerCodes()) {
+			codesByLowerCase.put(code.toLowerCase(Locale.ROOT), code);
+		}
+
+		List<ImageImportResultDto> results = new ArrayList<>();
+		Map<String, ImageImportResultDto> storedByCode = new LinkedHashMap<>();
+		ZipInputStream zip = new ZipInputStream(archive);
+		try {
+			ZipEntry entry;
+			int entries = 0;
+			while ((entry = zip.getNextEntry()) != null) {
+				if (entry.isDirectory()) {
+					continue;
+				}
+				if (++entries > maxEntries) {
+					throw new SplBadRequestException("Archive has more than " + maxEntries + " files");
+				}
+				results.add(importEntry(entry.getName(), zip, codesByLowerCase, storedByCode));
+			}
+		} catch (IOException e) {
+			throw new SplBadRequestException("Could not read ZIP archive: " + e.getMessage());
+		}
+
+		Map<String, String> imageUrlsByCode = new HashMap<>();
+		storedByCode.forEach((code, result) -> imageUrlsByCode.put(code, result.getImageUrl()));
+		Set<String> changed = playerService.updatePlayerImages(imageUrlsByCode);
+		storedByCode.forEach((code, result) -> result.setStatus(
+				changed.contains(code) ? ImageImportStatus.IMPORTED : ImageImportStatus.UNCHANGED));
+
+		ImageImportReportDto report = ImageImportReportDto.builder()
+				.imported(count(results, ImageImportStatus.IMPORTED))
+				.unchanged(count(results, ImageImportStatus.UNCHANGED))
+				.skipped(count(results, ImageImportStatus.SKIPPED) + count(results, ImageImportStatus.NO_MATCHING_PLAYER))
+				.failed(count(results, ImageImportStatus.FAILED))
+				.files(results)
+				.build();
+		log.info("Imported {} player images from ZIP ({} unchanged, {} skipped, {} failed)", report.getImported(),
+				report.getUnchanged(), report.getSkipped(), report.getFailed());
+		return report;
+	}
+
+	private ImageImportResultDto importEntry(String entryName, ZipInputStream zip,
+			Map<String, String> codesByLowerCase, Map<String, ImageImportResultDto> storedByCode) {
+		String fileName = entryName.substring(entryName.lastIndexOf('/') + 1);
+		ImageImportResultDto result = ImageImportResultDto.builder().fileName(entryName).build();
+
+		// macOS resource forks and dot files travel along in archives made by Finder
+		if (fileName.startsWith(".") || entryName.startsWith("__MACOSX/") || !isImageName(fileName)) {
+			return skip(result, ImageImportStatus.SKIPPED, "Not an image file");
+		}
+		String baseName = fileName.substring(0, fileName.lastIndexOf('.'));
+		String code = codesByLowerCase.get(baseName.toLowerCase(Locale.ROOT));
+		result.setPlayerCode(code != null ? code : baseName);
+		if (code == null) {
+			return skip(result, ImageImportStatus.NO_MATCHING_PLAYER, "No player with code " + baseName);
+		}
+		if (storedByCode.containsKey(code)) {
+			return skip(result, ImageImportStatus.SKIPPED, "Another file for this player was imported first");
+		}
+
+		try {
+			PlayerImageDto image = imageStorageService.store(zip, fileName);
+			result.setImageUrl(image.getImageUrl());
+			storedByCode.put(code, result);
+		} catch (IOException | IllegalArgumentException e) {
+			result.setStatus(ImageImportStatus.FAILED);
+			result.setMessage(e.getMessage());
+		}
+		return result;
+	}
+
+	private boolean isImageName(String fileName) {
+		return fileName.contains(".") && MediaTypeFactory.getMediaType(fileName)
+				.filter(type -> "image".equals(type.getType()))
+				.isPresent();
+	}
+
+	private ImageImportResultDto skip(ImageImportResultDto result, ImageImportStatus status, String message) {
+		result.setStatus(status);
+		result.setMessage(message);
+		return result;
+	}
+
+	private int count(List<ImageImportResultDto> results, ImageImportStatus status) {
+		return (int) results.stream().filter(result -> result.getStatus() == status).count();
+	}
+}
@@ -2,6 +2,7 @@ package com.spl.spl.service;
 
 import java.util.List;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.spl.spl.entity.PlayerLevel;
 import com.spl.spl.repository.PlayerLevelRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,7 @@ public class PlayerLevelService {
 
 	private final PlayerLevelRepository playerLevelRepository;
 
+	@Transactional(readOnly = true)
 	public List<PlayerLevel> getAllPlayerLevels() {
 		return playerLevelRepository.findAll();
 	}
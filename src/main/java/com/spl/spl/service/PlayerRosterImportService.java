@@ -0,0 +1,327 @@
+package com.spl.spl.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import com.spl.spl.dto.RosterImportErrorDto;
+import com.spl.spl.dto.RosterImportReportDto;
+import com.spl.spl.entity.Player;
+import com.spl.spl.entity.PlayerCategory;
+import com.spl.spl.entity.PlayerLevel;
+import com.spl.spl.exception.SplBadRequestException;
+import com.spl.spl.repository.PlayerCategoryRepository;
+import com.spl.spl.repository.PlayerLevelRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports a player roster from CSV or XLSX. Rows are read one at a time (commons-csv, POI's SAX
+ * sheet reader), levels and categories are resolved from lookups loaded once per import, and
+ * valid rows are inserted in chunks of one JDBC batch, each chunk in its own transaction.
+ * Expected columns: name, level, category, image url (optional), active (optional).
+ */
+@Service
+@Slf4j
+public class PlayerRosterImportService {
+
+	private static final String NAME = "name";
+	private static final String LEVEL = "level";
+	private static final String CATEGORY = "category";
+	private static final String IMAGE_URL = "imageurl";
+	private static final String ACTIVE = "active";
+
+	private final PlayerService playerService;
+	private final PlayerLevelRepository playerLevelRepository;
+	private final PlayerCategoryRepository playerCategoryRepository;
+	private final int batchSize;
+	private final int maxErrors;
+
+	public PlayerRosterImportService(PlayerService playerService, PlayerLevelRepository playerLevelRepository,
+			PlayerCategoryRepository playerCategoryRepository,
+			@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize,
+			@Value("${spl.players.import.max-errors:1000}") int maxErrors) {
+		this.playerService = playerService;
+		this.playerLevelRepository = playerLevelRepository;
+		this.playerCategoryRepository = playerCategoryRepository;
+		this.batchSize = batchSize;
+		this.maxErrors = maxErrors;
+	}
+
+	/**
+	 * Imports every valid row of the roster; invalid rows are reported and left out.
+	 *
+	 * @param file A .csv or .xlsx file with a header row
+	 * @return Row counts and the validation errors by row number
+	 * @throws SplBadRequestException if the file type is not supported or the file cannot be read
+	 * @example importRoster(roster.csv) -> RosterImportReportDto{rows=1200, imported=1198, failed=2, errors=[{row=17, message="Unknown player level 'x'"}, ...]}
+	 */
+	public RosterImportReportDto importRoster(MultipartFile file) {
+		String fileName = StringUtils.defaultString(file.getOriginalFilename()).toLowerCase(Locale.ROOT);
+		RosterWriter writer = new RosterWriter();
+		try {
+			if (fileName.endsWith(".xlsx")) {
+				readXlsx(file, writer);
+			} else if (fileName.endsWith(".csv")) {
+				readCsv(file, writer);
+			} else {
+				throw new SplBadRequestException("Roster must be a .csv or .xlsx file");
+			}
+		} catch (IOException | SAXException | OpenXML4JException | ParserConfigurationException e) {
+			throw new SplBadRequestException("Could not read roster: " + e.getMessage());
+		}
+		writer.flush();
+
+		RosterImportReportDto report = writer.report();
+		// caches are rebuilt once for the whole roster, not once per chunk
+		if (report.getImported() > 0) {
+			playerService.publishRosterUpdated();
+		}
+		log.info("Roster import of {}: {} rows, {} imported, {} failed", file.getOriginalFilename(), report.getRows(),
+				report.getImported(), report.getFailed());
+		return report;
+	}
+
+	private void readCsv(MultipartFile file, RosterWriter writer) throws IOException {
+		CSVFormat format = CSVFormat.DEFAULT.builder()
+				.setHeader()
+				.setSkipHeaderRecord(true)
+				.setIgnoreEmptyLines(true)
+				.setTrim(true)
+				.setAllowMissingColumnNames(true)
+				.build();
+		try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8);
+				CSVParser parser = format.parse(reader)) {
+			Map<String, Integer> headers = parser.getHeaderMap();
+			long row = 1;
+			for (CSVRecord record : parser) {
+				Map<String, String> values = new HashMap<>();
+				headers.forEach((header, index) -> {
+					if (index < record.size()) {
+						values.put(normalizeHeader(header), record.get(index));
+					}
+				});
+				writer.accept(++row, values);
+			}
+		}
+	}
+
+	/* the first sheet is streamed through SAX; POI opens the copy as a zip file instead of inflating it in memory */
+	private void readXlsx(MultipartFile file, RosterWriter writer)
+			throws IOException, SAXException, OpenXML4JException, ParserConfigurationException {
+		Path copy = Files.createTempFile("roster-", ".xlsx");
+		try {
+			file.transferTo(copy);
+			try (OPCPackage pkg = OPCPackage.open(copy.toFile(), PackageAccess.READ)) {
+				XSSFReader reader = new XSSFReader(pkg);
+				Iterator<InputStream> sheets = reader.getSheetsData();
+				if (!sheets.hasNext()) {
+					throw new SplBadRequestException("Workbook has no sheets");
+				}
+				XMLReader parser = XMLHelper.newXMLReader();
+				parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), null,
+						new ReadOnlySharedStringsTable(pkg), new SheetRows(writer), new DataFormatter(), false));
+				try (InputStream sheet = sheets.next()) {
+					parser.parse(new InputSource(sheet));
+				}
+			}
+		} finally {
+			Files.deleteIfExists(copy);
+		}
+	}
+
+	/* "Image URL", "image_url" and "imageUrl" all name the same column */
+	private String normalizeHeader(String header) {
+		return header.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+	}
+
+	private <V> Map<String, V> byLowerCaseCode(List<V> values, Function<V, String> code) {
+		Map<String, V> lookup = new HashMap<>();
+		for (V value : values) {
+			lookup.put(code.apply(value).toLowerCase(Locale.ROOT), value);
+		}
+		return lookup;
+	}
+
+	/* first row holds the headers, later rows become header -> formatted value maps */
+	private class SheetRows implements SheetContentsHandler {
+
+		private final RosterWriter writer;
+		private final Map<Integer, String> headers = new HashMap<>();
+		private Map<String, String> values;
+		private int headerRow = -1;
+		private int currentRow;
+		private int currentColumn;
+
+		SheetRows(RosterWriter writer) {
+			this.writer = writer;
+		}
+
+		@Override
+		public void startRow(int rowNum) {
+			currentRow = rowNum;
+			currentColumn = -1;
+			values = new HashMap<>();
+		}
+
+		@Override
+		public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+			currentColumn = cellReference != null ? new CellReference(cellReference).getCol() : currentColumn + 1;
+			if (headerRow < 0) {
+				headerRow = currentRow;
+			}
+			if (currentRow == headerRow) {
+				headers.put(currentColumn, normalizeHeader(formattedValue));
+			} else if (headers.containsKey(currentColumn)) {
+				values.put(headers.get(currentColumn), StringUtils.trimToEmpty(formattedValue));
+			}
+		}
+
+		@Override
+		public void endRow(int rowNum) {
+			if (rowNum != headerRow && !values.isEmpty()) {
+				writer.accept(rowNum + 1L, values);
+			}
+		}
+	}
+
+	/* validates rows and writes them a batch at a time */
+	private class RosterWriter {
+
+		private final Map<String, PlayerLevel> levels = byLowerCaseCode(playerLevelRepository.findAll(),
+				PlayerLevel::getCode);
+		private final Map<String, PlayerCategory> categories = byLowerCaseCode(playerCategoryRepository.findAll(),
+				PlayerCategory::getCode);
+		private final List<Player> pending = new ArrayList<>(batchSize);
+		private final List<Long> pendingRows = new ArrayList<>(batchSize);
+		private final List<RosterImportErrorDto> errors = new ArrayList<>();
+		private long rows;
+		private long imported;
+		private long failed;
+
+		void accept(long row, Map<String, String> values) {
+			rows++;
+			String error = validate(values);
+			if (error != null) {
+				fail(row, error);
+				return;
+			}
+			Player player = new Player();
+			player.setName(values.get(NAME));
+			player.setPlayerLevel(levels.get(values.get(LEVEL).toLowerCase(Locale.ROOT)));
+			if (StringUtils.isNotBlank(values.get(CATEGORY))) {
+				player.setCategory(categories.get(values.get(CATEGORY).toLowerCase(Locale.ROOT)));
+			}
+			player.setImageUrl(StringUtils.trimToNull(values.get(IMAGE_URL)));
+			player.setIsActive(parseActive(values.get(ACTIVE)));
+			pending.add(player);
+			pendingRows.add(row);
+			if (pending.size() >= batchSize) {
+				flush();
+			}
+		}
+
+		void flush() {
+			if (pending.isEmpty()) {
+				return;
+			}
+			try {
+				playerService.savePlayers(new ArrayList<>(pending));
+				imported += pending.size();
+			} catch (DataAccessException | TransactionException e) {
+				String message = "Not saved, batch failed: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+				pendingRows.forEach(row -> fail(row, message));
+			}
+			pending.clear();
+			pendingRows.clear();
+		}
+
+		RosterImportReportDto report() {
+			return RosterImportReportDto.builder()
+					.rows(rows)
+					.imported(imported)
+					.failed(failed)
+					.errors(errors)
+					.build();
+		}
+
+		private String validate(Map<String, String> values) {
+			if (StringUtils.isBlank(values.get(NAME))) {
+				return "Name is required";
+			}
+			String level = values.get(LEVEL);
+			if (StringUtils.isBlank(level)) {
+				return "Level is required";
+			}
+			if (!levels.containsKey(level.toLowerCase(Locale.ROOT))) {
+				return "Unknown player level '" + level + "'";
+			}
+			String category = values.get(CATEGORY);
+			if (StringUtils.isNotBlank(category) && !categories.containsKey(category.toLowerCase(Locale.ROOT))) {
+				return "Unknown player category '" + category + "'";
+			}
+			String active = values.get(ACTIVE);
+			if (StringUtils.isNotBlank(active) && parseActive(active) == null) {
+				return "Active must be true/false, yes/no or 1/0, was '" + active + "'";
+			}
+			return null;
+		}
+
+		private Boolean parseActive(String value) {
+			if (StringUtils.isBlank(value)) {
+				return Boolean.TRUE;
+			}
+			return switch (value.trim().toLowerCase(Locale.ROOT)) {
+				case "true", "yes", "y", "1" -> Boolean.TRUE;
+				case "false", "no", "n", "0" -> Boolean.FALSE;
+				default -> null;
+			};
+		}
+
+		/* the error list is capped so a wrong file cannot grow the report without bound */
+		private void fail(long row, String message) {
+			failed++;
+			if (errors.size() < maxErrors) {
+				errors.add(new RosterImportErrorDto(row, message));
+			}
+		}
+	}
+}
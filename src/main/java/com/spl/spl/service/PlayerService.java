@@ -1,20 +1,31 @@
 package com.spl.spl.service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.spl.spl.dto.PlayerInfoDto;
 import com.spl.spl.dto.PlayerTeamRequest;
+import com.spl.spl.dto.TeamDto;
+import com.spl.spl.dto.UnsoldPlayerChangeDto;
 import com.spl.spl.entity.Player;
 import com.spl.spl.entity.Season;
 import com.spl.spl.entity.UnsoldPlayer;
+import com.spl.spl.event.PlayerStatus;
+import com.spl.spl.event.SeasonChangeType;
+import com.spl.spl.event.SeasonChangedEvent;
+import com.spl.spl.exception.ResourceNotFoundException;
 import com.spl.spl.exception.SplBadRequestException;
 import com.spl.spl.repository.PlayerRepository;
 import com.spl.spl.repository.SeasonRepository;
@@ -29,12 +40,16 @@ public class PlayerService {
 	private final PlayerRepository playerRepository;
 	private final SeasonRepository seasonRepository;
 	private final UnsoldPlayerRepository unsoldPlayerRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final CodeIdCache codeIdCache;
 	private final Random random = new Random();
 
+	@Transactional(readOnly = true)
 	public List<Player> getAllPlayers() {
 		return playerRepository.findByIsActive(Boolean.TRUE);
 	}
 
+	@Transactional(readOnly = true)
 	public List<Player> getAvailablePlayersByLevelShuffled(Long seasonId, Long playerLevelId) {
 		List<Player> players = new ArrayList<>(playerRepository.findPlayersNotInTeamByLevel(seasonId, playerLevelId));
 		Collections.shuffle(players, random);
@@ -44,23 +59,21 @@ public class PlayerService {
 	@Transactional
 	public UnsoldPlayer saveUnsoldPlayer(PlayerTeamRequest request) {
 		validateRequiredFields(request);
-		Player player = playerRepository.findByCode(request.getPlayerCode());
-		Season season = seasonRepository.findByCode(request.getSeasonCode());
-
-		if (player == null) {
-			throw new com.spl.spl.exception.ResourceNotFoundException("Player", request.getPlayerCode());
-		}
-
-		if (season == null) {
-			throw new com.spl.spl.exception.ResourceNotFoundException("Season", request.getSeasonCode());
-		}
+		// loaded by primary key, so a stale cached id is retried by code instead of failing at flush
+		Player player = codeIdCache.find(Player.class, request.getPlayerCode(), playerRepository::findIdByCode,
+				playerRepository::findById)
+				.orElseThrow(() -> new ResourceNotFoundException("Player", request.getPlayerCode()));
+		Season season = codeIdCache.find(Season.class, request.getSeasonCode(), seasonRepository::findIdByCode,
+				seasonRepository::findById)
+				.orElseThrow(() -> new ResourceNotFoundException("Season", request.getSeasonCode()));
+		Long playerId = player.getId();
+		Long seasonId = season.getId();
 
 		// Check if unsold player already exists
-		UnsoldPlayer existingUnsoldPlayer = unsoldPlayerRepository.findBySeasonIdAndPlayerId(season.getId(),
-				player.getId());
+		UnsoldPlayer existingUnsoldPlayer = unsoldPlayerRepository.findBySeasonIdAndPlayerId(seasonId, playerId);
 		if (existingUnsoldPlayer != null) {
 			throw new com.spl.spl.exception.DuplicateResourceException("UnsoldPlayer",
-					player.getCode() + "-" + season.getCode());
+					request.getPlayerCode() + "-" + request.getSeasonCode());
 		}
 
 		UnsoldPlayer unsoldPlayer = new UnsoldPlayer();
@@ -68,6 +81,14 @@ public class PlayerService {
 		unsoldPlayer.setSeason(season);
 
 		UnsoldPlayer savedUnsoldPlayer = unsoldPlayerRepository.save(unsoldPlayer);
+		eventPublisher.publishEvent(SeasonChangedEvent.builder()
+				.seasonId(seasonId)
+				.type(SeasonChangeType.PLAYER_UNSOLD)
+				.playerCode(request.getPlayerCode())
+				.playerStatus(PlayerStatus.UNSOLD)
+				.unsoldPlayers(List.of(UnsoldPlayerChangeDto.builder()
+						.id(savedUnsoldPlayer.getId()).playerCode(request.getPlayerCode()).build()))
+				.build());
 		return savedUnsoldPlayer;
 	}
 
@@ -83,25 +104,150 @@ public class PlayerService {
 
 		unsoldPlayerOpt.ifPresentOrElse(unsoldPlayer -> {
 			unsoldPlayerRepository.delete(unsoldPlayer);
+			eventPublisher.publishEvent(SeasonChangedEvent.builder()
+					.seasonId(unsoldPlayer.getSeason().getId())
+					.type(SeasonChangeType.PLAYER_UNSOLD_REVERTED)
+					.playerCode(unsoldPlayer.getPlayer().getCode())
+					.playerStatus(PlayerStatus.AVAILABLE)
+					.unsoldPlayers(List.of(UnsoldPlayerChangeDto.builder()
+							.id(unsoldPlayerId).playerCode(unsoldPlayer.getPlayer().getCode()).deleted(true).build()))
+					.build());
 		}, () -> {
 			throw new com.spl.spl.exception.ResourceNotFoundException("UnsoldPlayer", unsoldPlayerId.toString());
 		});
 	}
 
+	@Transactional(readOnly = true)
 	public List<Player> getUnsoldPlayersShuffled(Long seasonId) {
 		List<Player> players = new ArrayList<>(playerRepository.findUnsoldPlayers(seasonId));
 		Collections.shuffle(players, random);
 		return players;
 	}
 
+	@Transactional(readOnly = true)
 	public List<PlayerInfoDto> getAllAuctionResultPlayers(Long seasonId) {
 		List<PlayerInfoDto> playerInfos = new ArrayList<>(playerRepository.findAllPlayers(seasonId));
 		return playerInfos;
 	}
+
+	/**
+	 * Builds the auction result sheet of a season as CSV, one row per active player.
+	 *
+	 * @param seasonId The season ID
+	 * @return UTF-8 CSV with a header row
+	 */
+	@Transactional(readOnly = true)
+	public byte[] exportAuctionResultsCsv(Long seasonId) {
+		StringBuilder csv = new StringBuilder("Player Code,Player Name,Level,Category,Team,Sold Amount,Manager,RTM Used,Unsold\n");
+		for (PlayerInfoDto info : playerRepository.findAllPlayers(seasonId)) {
+			Player player = info.getPlayer();
+			TeamDto team = info.getTeamInfo();
+			csv.append(String.join(",",
+					csvValue(player.getCode()),
+					csvValue(player.getName()),
+					csvValue(player.getPlayerLevel() != null ? player.getPlayerLevel().getCode() : null),
+					csvValue(player.getCategory() != null ? player.getCategory().getName() : null),
+					csvValue(team != null ? team.getTeam().getName() : null),
+					csvValue(team != null ? team.getSoldAmount() : null),
+					csvValue(team != null ? team.getIsManager() : null),
+					csvValue(team != null ? team.getIsRtmUsed() : null),
+					csvValue(info.getIsUnsold())))
+					.append('\n');
+		}
+		return csv.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private String csvValue(Object value) {
+		if (value == null) {
+			return "";
+		}
+		String text = value.toString();
+		return StringUtils.containsAny(text, ',', '"', '\n') ? "\"" + text.replace("\"", "\"\"") + "\"" : text;
+	}
+
 	@Transactional
 	public Player savePlayer(Player player) {
-		playerRepository.save(player);
-		player.setCode("pl" + player.getId());
+		// the code is generated while the INSERT executes (see Player.code), flush so it is set here
+		player = playerRepository.saveAndFlush(player);
+		eventPublisher.publishEvent(SeasonChangedEvent.builder()
+				.type(SeasonChangeType.ROSTER_UPDATED)
+				.playerCode(player.getCode())
+				.build());
 		return player;
 	}
+
+	/**
+	 * Points a player at a newly stored image.
+	 *
+	 * @param playerCode Code of the player
+	 * @param imageUrl URL of the stored image
+	 * @return The updated player
+	 * @throws ResourceNotFoundException if no player has this code
+	 */
+	@Transactional
+	public Player updatePlayerImage(String playerCode, String imageUrl) {
+		Player player = codeIdCache.find(Player.class, playerCode, playerRepository::findIdByCode,
+				playerRepository::findById)
+				.orElseThrow(() -> new ResourceNotFoundException("Player", playerCode));
+		if (!imageUrl.equals(player.getImageUrl())) {
+			player.setImageUrl(imageUrl);
+			eventPublisher.publishEvent(SeasonChangedEvent.builder()
+					.type(SeasonChangeType.ROSTER_UPDATED)
+					.playerCode(playerCode)
+					.build());
+		}
+		return player;
+	}
+
+	/**
+	 * Inserts a chunk of new players in one transaction. Ids come from the pooled id block and
+	 * codes are generated with the insert, so the chunk is written as JDBC batches of plain INSERTs.
+	 * No event is published per chunk; call {@link #publishRosterUpdated} once all chunks are in.
+	 *
+	 * @param players New players without id or code
+	 * @return The saved players
+	 */
+	@Transactional
+	public List<Player> savePlayers(List<Player> players) {
+		return playerRepository.saveAll(players);
+	}
+
+	/* one roster change for writes committed in several transactions, e.g. a chunked import */
+	public void publishRosterUpdated() {
+		eventPublisher.publishEvent(SeasonChangedEvent.builder()
+				.type(SeasonChangeType.ROSTER_UPDATED)
+				.build());
+	}
+
+	@Transactional(readOnly = true)
+	public List<String> getPlayerCodes() {
+		return playerRepository.findAllCodes();
+	}
+
+	/**
+	 * Points many players at new images in one transaction; the updates are sent as JDBC batches.
+	 *
+	 * @param imageUrlsByCode New image URL per player code
+	 * @return Codes of the players whose image URL changed
+	 */
+	@Transactional
+	public Set<String> updatePlayerImages(Map<String, String> imageUrlsByCode) {
+		Set<String> changed = new HashSet<>();
+		if (imageUrlsByCode.isEmpty()) {
+			return changed;
+		}
+		for (Player player : playerRepository.findByCodeIn(imageUrlsByCode.keySet())) {
+			String imageUrl = imageUrlsByCode.get(player.getCode());
+			if (!imageUrl.equals(player.getImageUrl())) {
+				player.setImageUrl(imageUrl);
+				changed.add(player.getCode());
+			}
+		}
+		if (!changed.isEmpty()) {
+			eventPublisher.publishEvent(SeasonChangedEvent.builder()
+					.type(SeasonChangeType.ROSTER_UPDATED)
+					.build());
+		}
+		return changed;
+	}
 }
@@ -11,11 +11,16 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.spl.spl.dto.PlayerLevelCalcDto;
+import com.spl.spl.dto.PlayerTeamChangeDto;
 import com.spl.spl.dto.PlayerTeamRequest;
+import com.spl.spl.dto.TeamSeasonTotalsDto;
+import com.spl.spl.dto.TeamSeasonTotalsDto.PlayerLevelBudgetDto;
+import com.spl.spl.dto.UnsoldPlayerChangeDto;
 import com.spl.spl.entity.Player;
 import com.spl.spl.entity.PlayerLevel;
 import com.spl.spl.entity.PlayerTeam;
@@ -24,7 +29,11 @@ import com.spl.spl.entity.Season;
 import com.spl.spl.entity.TeamSeason;
 import com.spl.spl.entity.TeamSeasonPlayerLevel;
 import com.spl.spl.entity.UnsoldPlayer;
+import com.spl.spl.event.PlayerStatus;
+import com.spl.spl.event.SeasonChangeType;
+import com.spl.spl.event.SeasonChangedEvent;
 import com.spl.spl.exception.PlayerLimitExceededException;
+import com.spl.spl.exception.ResourceNotFoundException;
 import com.spl.spl.exception.SplBadRequestException;
 import com.spl.spl.repository.PlayerLevelRepository;
 import com.spl.spl.repository.PlayerRepository;
@@ -46,20 +55,28 @@ public class PlayerTeamService {
 	private final UnsoldPlayerRepository unsoldPlayerRepository;
 	private final PlayerLevelRepository playerLevelRepository;
 	private final RuleEngine ruleEngine;
+	private final CodeIdCache codeIdCache;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public PlayerTeam savePlayerTeam(PlayerTeamRequest request) {
 
 		PlayerTeam result = null;
 		List<TeamSeason> summary = new ArrayList<>();
+		List<PlayerTeamChangeDto> playerTeamChanges = new ArrayList<>();
+		List<UnsoldPlayerChangeDto> unsoldPlayerChanges = new ArrayList<>();
 		
-		TeamSeason teamSeason = teamSeasonRepository.findByCode(request.getTeamSeasonCode());
+		TeamSeason teamSeason = codeIdCache.find(TeamSeason.class, request.getTeamSeasonCode(),
+				teamSeasonRepository::findIdByCode, teamSeasonRepository::findById)
+				.orElseThrow(() -> new ResourceNotFoundException("TeamSeason", request.getTeamSeasonCode()));
 		Season season = teamSeason.getSeason();
 		
 		validateTotalRtmUsed(season,teamSeason,request);
 		validateTotalFreeUsed(season,teamSeason,request);
 		
-		Player player = playerRepository.findByCode(request.getPlayerCode());
+		Player player = codeIdCache.find(Player.class, request.getPlayerCode(), playerRepository::findIdByCode,
+				playerRepository::findById)
+				.orElseThrow(() -> new ResourceNotFoundException("Player", request.getPlayerCode()));
 		
 		validateAmount(season,player,request);
 		
@@ -82,7 +99,9 @@ public class PlayerTeamService {
 			// Manual list management
 			teamSeason.getPlayerTeams().add(result);
 		} else {
-			PlayerTeam existingPlayerTeam = playerTeamRepository.findByCode(request.getCode());
+			PlayerTeam existingPlayerTeam = codeIdCache.find(PlayerTeam.class, request.getCode(),
+					playerTeamRepository::findIdByCode, playerTeamRepository::findById)
+					.orElseThrow(() -> new ResourceNotFoundException("PlayerTeam", request.getCode()));
 			
 			if (!StringUtils.equals(generatedCode, existingPlayerTeam.getCode())) {
 				
@@ -92,6 +111,7 @@ public class PlayerTeamService {
 				existingPlayerTeam.getTeamSeason().getPlayerTeams().remove(existingPlayerTeam);
 				
 				playerTeamRepository.delete(existingPlayerTeam);
+				playerTeamChanges.add(PlayerTeamChangeDto.deleted(existingPlayerTeam.getCode()));
 				PlayerTeam newPlayerTeam = new PlayerTeam();
 				newPlayerTeam.setPlayer(player);
 				newPlayerTeam.setTeamSeason(teamSeason);
@@ -116,25 +136,36 @@ public class PlayerTeamService {
 			}
 		}
 		
+		playerTeamChanges.add(PlayerTeamChangeDto.of(result));
+		
 		if(result.getWasUnsold()!=null && result.getWasUnsold()) {
 			UnsoldPlayer existingUnsoldPlayer = unsoldPlayerRepository.findBySeasonIdAndPlayerId(season.getId(),player.getId());
 			if(existingUnsoldPlayer!=null) {
 				unsoldPlayerRepository.delete(existingUnsoldPlayer);
+				unsoldPlayerChanges.add(UnsoldPlayerChangeDto.builder()
+						.id(existingUnsoldPlayer.getId()).playerCode(player.getCode()).deleted(true).build());
 			}
 		}
 		
-		manageTeamSeasonStatus(summary);
+		List<TeamSeasonTotalsDto> totals = manageTeamSeasonStatus(summary);
+		eventPublisher.publishEvent(SeasonChangedEvent.builder()
+				.seasonId(season.getId())
+				.type(SeasonChangeType.PLAYER_SOLD)
+				.playerCode(player.getCode())
+				.playerStatus(PlayerStatus.SOLD)
+				.teamSeasons(totals)
+				.playerTeams(playerTeamChanges)
+				.unsoldPlayers(unsoldPlayerChanges)
+				.build());
 		
 		return result;
 	}
 
 	@Transactional
 	public void revertPlayerTeam(String playerTeamCode) {
-		PlayerTeam playerTeam = playerTeamRepository.findByCode(playerTeamCode);
-		
-		if (playerTeam == null) {
-			throw new com.spl.spl.exception.ResourceNotFoundException("PlayerTeam", playerTeamCode);
-		}
+		PlayerTeam playerTeam = codeIdCache.find(PlayerTeam.class, playerTeamCode,
+				playerTeamRepository::findIdByCode, playerTeamRepository::findById)
+				.orElseThrow(() -> new ResourceNotFoundException("PlayerTeam", playerTeamCode));
 		
 		List<TeamSeason> affectedTeamSeasons = new ArrayList<>();
 		TeamSeason teamSeason = playerTeam.getTeamSeason();
@@ -147,16 +178,29 @@ public class PlayerTeamService {
 		teamSeason.getPlayerTeams().remove(playerTeam);
 		playerTeamRepository.delete(playerTeam);
 		
+		List<UnsoldPlayerChangeDto> unsoldPlayerChanges = new ArrayList<>();
+		
 		// Restore unsold player record if it was marked as unsold
 		if (playerTeam.getWasUnsold() != null && playerTeam.getWasUnsold()) {
 			UnsoldPlayer unsoldPlayer = new UnsoldPlayer();
 			unsoldPlayer.setPlayer(player);
 			unsoldPlayer.setSeason(season);
-			unsoldPlayerRepository.save(unsoldPlayer);
+			unsoldPlayer = unsoldPlayerRepository.save(unsoldPlayer);
+			unsoldPlayerChanges.add(UnsoldPlayerChangeDto.builder()
+					.id(unsoldPlayer.getId()).playerCode(player.getCode()).build());
 		}
 		
 		// Recalculate team season statistics
-		manageTeamSeasonStatus(affectedTeamSeasons);
+		List<TeamSeasonTotalsDto> totals = manageTeamSeasonStatus(affectedTeamSeasons);
+		eventPublisher.publishEvent(SeasonChangedEvent.builder()
+				.seasonId(season.getId())
+				.type(SeasonChangeType.PLAYER_SALE_REVERTED)
+				.playerCode(player.getCode())
+				.playerStatus(Boolean.TRUE.equals(playerTeam.getWasUnsold()) ? PlayerStatus.UNSOLD : PlayerStatus.AVAILABLE)
+				.teamSeasons(totals)
+				.playerTeams(List.of(PlayerTeamChangeDto.deleted(playerTeamCode)))
+				.unsoldPlayers(unsoldPlayerChanges)
+				.build());
 	}
 
 	private void validateAmount(Season season, Player player, PlayerTeamRequest request) {
@@ -196,7 +240,8 @@ public class PlayerTeamService {
 
 
 
-	private void manageTeamSeasonStatus(List<TeamSeason> summary) {
+	private List<TeamSeasonTotalsDto> manageTeamSeasonStatus(List<TeamSeason> summary) {
+		List<TeamSeasonTotalsDto> totals = new ArrayList<>();
 		if (summary != null && !summary.isEmpty()) {
 			
 			List<PlayerLevel> allLevels = playerLevelRepository.findAll();
@@ -255,9 +300,31 @@ public class PlayerTeamService {
 							.season(teamSeason.getSeason()).playerLevels(playerLevelsMap).build();
 
 					updateNextPlayerBudgets(playerLevelCalcDto);
+					totals.add(toTotals(teamSeason, playerLevelsMap));
 				}
 			}
 		}
+		return totals;
+	}
+
+	private TeamSeasonTotalsDto toTotals(TeamSeason teamSeason, Map<String, TeamSeasonPlayerLevel> playerLevels) {
+		List<PlayerLevelBudgetDto> levelBudgets = playerLevels.entrySet().stream()
+				.map(entry -> PlayerLevelBudgetDto.builder()
+						.playerLevelCode(entry.getKey())
+						.totalAmountSpent(entry.getValue().getTotalAmountSpent())
+						.totalPlayerCount(entry.getValue().getTotalPlayerCount())
+						.nextPlayerBudget(entry.getValue().getNextPlayerBudget())
+						.build())
+				.toList();
+		return TeamSeasonTotalsDto.builder()
+				.id(teamSeason.getId())
+				.code(teamSeason.getCode())
+				.totalAmountSpent(teamSeason.getTotalAmountSpent())
+				.totalRtmUsed(teamSeason.getTotalRtmUsed())
+				.totalFreeUsed(teamSeason.getTotalFreeUsed())
+				.totalPlayer(teamSeason.getTotalPlayer())
+				.playerLevels(levelBudgets)
+				.build();
 	}
 
 	private void updateNextPlayerBudgets(PlayerLevelCalcDto dto) {
@@ -0,0 +1,81 @@
+package com.spl.spl.service;
+
+import java.time.Instant;
+import java.util.Set;
+
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import com.spl.spl.entity.CacheRegions;
+import com.spl.spl.entity.PlayerCategory;
+import com.spl.spl.entity.PlayerLevel;
+import com.spl.spl.entity.Rule;
+import com.spl.spl.entity.Season;
+import com.spl.spl.entity.SeasonRule;
+import com.spl.spl.entity.Team;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Explicit eviction of the second-level cache regions holding reference data. Hibernate keeps the
+ * regions current for writes it flushes itself; this is for everything around that, e.g. Data REST
+ * deletes, rules edited in SQL, and replica reads that refill a region with rows from before the
+ * write. Every eviction is therefore repeated once the replica lag window has passed.
+ */
+@Service
+@Slf4j
+public class ReferenceDataCache {
+
+	private static final Set<Class<?>> CACHED_TYPES = Set.of(PlayerLevel.class, PlayerCategory.class, Team.class,
+			Season.class, Rule.class);
+
+	private final Cache cache;
+	private final TaskScheduler taskScheduler;
+	private final long replicaLagMillis;
+
+	public ReferenceDataCache(EntityManagerFactory entityManagerFactory, TaskScheduler taskScheduler,
+			@Value("${spl.datasource.replica.lag-window-millis:5000}") long replicaLagMillis) {
+		this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+		this.taskScheduler = taskScheduler;
+		this.replicaLagMillis = replicaLagMillis;
+	}
+
+	/**
+	 * Evicts the regions an entity of this kind is cached in; other entities are ignored.
+	 *
+	 * @param entity Entity that was written or deleted
+	 * @example evict(team) -> team and team-codes regions emptied
+	 */
+	public void evict(Object entity) {
+		Class<?> type = Hibernate.getClass(entity);
+		if (CACHED_TYPES.contains(type) || type == SeasonRule.class) {
+			evictNow(type);
+			taskScheduler.schedule(() -> evictNow(type), Instant.now().plusMillis(replicaLagMillis));
+		}
+	}
+
+	/**
+	 * Empties every reference data region and the season rule query results.
+	 */
+	public void evictAll() {
+		CACHED_TYPES.forEach(this::evictNow);
+		taskScheduler.schedule(() -> CACHED_TYPES.forEach(this::evictNow), Instant.now().plusMillis(replicaLagMillis));
+	}
+
+	private void evictNow(Class<?> type) {
+		if (CACHED_TYPES.contains(type)) {
+			cache.evictEntityData(type);
+			cache.evictNaturalIdData(type);
+		}
+		// the season rule lookup returns rules of a season's rule links
+		if (type == Rule.class || type == SeasonRule.class) {
+			cache.evictQueryRegion(CacheRegions.SEASON_RULES);
+		}
+		log.debug("Evicted second-level cache of {}", type.getSimpleName());
+	}
+}
@@ -0,0 +1,334 @@
+package com.spl.spl.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.spl.spl.dto.ReportJobDto;
+import com.spl.spl.dto.ReportJobRequest;
+import com.spl.spl.dto.ReportJobStatus;
+import com.spl.spl.dto.ReportJobType;
+import com.spl.spl.entity.TeamSeason;
+import com.spl.spl.event.SeasonChangeType;
+import com.spl.spl.event.SeasonChangedEvent;
+import com.spl.spl.exception.ReportJobNotReadyException;
+import com.spl.spl.exception.ReportQueueFullException;
+import com.spl.spl.exception.ResourceNotFoundException;
+import com.spl.spl.exception.SplBadRequestException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs report rendering (squad PDFs, season bundles, result sheets) off the request thread.
+ * Jobs go to a fixed pool with a bounded queue; when the queue is full new jobs are refused
+ * instead of piling up. Finished results are kept in memory until they expire, or until newer
+ * results push the retained total over its byte limit, oldest first.
+ */
+@Service
+@Slf4j
+public class ReportJobService {
+
+	private final TeamSeasonService teamSeasonService;
+	private final PdfGenerationService pdfGenerationService;
+	private final SquadPdfCache squadPdfCache;
+	private final SquadPdfBundleService squadPdfBundleService;
+	private final PlayerService playerService;
+	private final SeasonVersionService seasonVersionService;
+
+	private final ThreadPoolExecutor renderPool;
+	private final int queueCapacity;
+	private final long resultTtlMillis;
+	private final long maxRetainedBytes;
+	private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+	/* jobs holding a rendered result, oldest first; guarded by itself */
+	private final Deque<ReportJob> retained = new ArrayDeque<>();
+	private long retainedBytes;
+	/* results rendered ahead of time, by report type and target */
+	private final Map<String, ReportResult> prepared = new ConcurrentHashMap<>();
+
+	public ReportJobService(TeamSeasonService teamSeasonService, PdfGenerationService pdfGenerationService,
+			SquadPdfCache squadPdfCache, SquadPdfBundleService squadPdfBundleService, PlayerService playerService,
+			SeasonVersionService seasonVersionService,
+			@Value("${spl.reports.threads:2}") int threads,
+			@Value("${spl.reports.queue-capacity:20}") int queueCapacity,
+			@Value("${spl.reports.result-ttl-millis:900000}") long resultTtlMillis,
+			@Value("${spl.reports.max-retained-bytes:268435456}") long maxRetainedBytes) {
+		this.teamSeasonService = teamSeasonService;
+		this.pdfGenerationService = pdfGenerationService;
+		this.squadPdfCache = squadPdfCache;
+		this.squadPdfBundleService = squadPdfBundleService;
+		this.playerService = playerService;
+		this.seasonVersionService = seasonVersionService;
+		this.queueCapacity = queueCapacity;
+		this.resultTtlMillis = resultTtlMillis;
+		this.maxRetainedBytes = maxRetainedBytes;
+		this.renderPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * Queues a report job.
+	 *
+	 * @param request Report type and the season or team season it covers
+	 * @return The queued job
+	 * @throws SplBadRequestException if the type or its target is missing
+	 * @throws ReportQueueFullException if the queue cannot take another job
+	 */
+	public ReportJobDto submit(ReportJobRequest request) {
+		validate(request);
+		ReportJob job = new ReportJob(UUID.randomUUID().toString(), request);
+		String key = preparedKey(request);
+		ReportResult ready = key != null ? prepared.get(key) : null;
+		if (ready != null) {
+			job.complete(ready, resultTtlMillis);
+			jobs.put(job.id, job);
+			return job.toDto();
+		}
+		jobs.put(job.id, job);
+		try {
+			renderPool.execute(() -> run(job));
+		} catch (RejectedExecutionException e) {
+			jobs.remove(job.id);
+			throw new ReportQueueFullException(queueCapacity, retryAfterSeconds());
+		}
+		return job.toDto();
+	}
+
+	/**
+	 * Renders a report on the calling thread and keeps it, so later jobs for the same
+	 * report complete immediately. Used once the data behind the report is final.
+	 *
+	 * @param request Report type and the season or team season it covers
+	 */
+	public void prepare(ReportJobRequest request) {
+		validate(request);
+		String key = preparedKey(request);
+		String version = seasonVersionService.etag(request.getSeasonId());
+		ReportResult result = render(request);
+		if (key == null) {
+			return;
+		}
+		// keep it only if nothing was committed while it was rendering; checked again after the put,
+		// since a commit between the check and the put may already have run onSeasonChanged
+		if (version.equals(seasonVersionService.etag(request.getSeasonId()))) {
+			prepared.put(key, result);
+			if (!version.equals(seasonVersionService.etag(request.getSeasonId()))) {
+				prepared.remove(key, result);
+			}
+		}
+	}
+
+	public ReportJobDto getJob(String jobId) {
+		return find(jobId).toDto();
+	}
+
+	/**
+	 * Returns the rendered output of a completed job.
+	 *
+	 * @param jobId The job ID
+	 * @return Result with content type and download name
+	 * @throws ReportJobNotReadyException if the job is still queued or running, or has failed
+	 */
+	public ReportResult getResult(String jobId) {
+		ReportJob job = find(jobId);
+		if (job.status != ReportJobStatus.COMPLETED) {
+			throw new ReportJobNotReadyException(jobId, job.status);
+		}
+		return job.result;
+	}
+
+	@Order(45)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSeasonChanged(SeasonChangedEvent event) {
+		if (event.getSeasonId() == null) {
+			prepared.clear();
+		} else if (event.getType() != SeasonChangeType.SEASON_UPDATED) {
+			prepared.keySet().removeIf(key -> key.endsWith(":" + event.getSeasonId()));
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${spl.reports.cleanup-interval-millis:60000}")
+	public void purgeExpiredJobs() {
+		LocalDateTime now = LocalDateTime.now();
+		jobs.values().removeIf(job -> job.expiresAt != null && job.expiresAt.isBefore(now));
+		synchronized (retained) {
+			retained.removeIf(job -> {
+				boolean expired = job.expiresAt.isBefore(now);
+				if (expired) {
+					retainedBytes -= job.result.content().length;
+				}
+				return expired;
+			});
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		renderPool.shutdownNow();
+	}
+
+	private void run(ReportJob job) {
+		job.status = ReportJobStatus.RUNNING;
+		try {
+			job.complete(render(job.request), resultTtlMillis);
+			retain(job);
+		} catch (RuntimeException e) {
+			log.error("Report job {} ({}) failed: {}", job.id, job.request.getType(), e.getMessage(), e);
+			job.fail(e.getMessage(), resultTtlMillis);
+		}
+	}
+
+	private ReportResult render(ReportJobRequest request) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		switch (request.getType()) {
+			case SQUAD_PDF -> {
+				Long teamSeasonId = request.getTeamSeasonId();
+				String etag = squadPdfCache.etag(teamSeasonId);
+				SquadPdfCache.CachedPdf cached = squadPdfCache.get(teamSeasonId, etag);
+				if (cached != null) {
+					write(cached, out);
+					return new ReportResult(MediaType.APPLICATION_PDF_VALUE, cached.fileName(), out.toByteArray());
+				}
+				TeamSeason teamSeason = teamSeasonService.getTeamSeasonForSquadPdf(teamSeasonId);
+				String fileName = pdfGenerationService.squadPdfFileName(teamSeason);
+				squadPdfCache.render(teamSeasonId, etag, fileName, out,
+						pdf -> pdfGenerationService.writeTeamSquadPdf(teamSeason, pdf));
+				return new ReportResult(MediaType.APPLICATION_PDF_VALUE, fileName, out.toByteArray());
+			}
+			case SEASON_SQUAD_BUNDLE -> {
+				try {
+					squadPdfBundleService.writeBundle(squadPdfBundleService.loadSquads(request.getSeasonId()), out);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				return new ReportResult("application/zip", "Squads_Season_" + request.getSeasonId() + ".zip",
+						out.toByteArray());
+			}
+			case AUCTION_RESULTS -> {
+				return new ReportResult("text/csv", "Auction_Results_Season_" + request.getSeasonId() + ".csv",
+						playerService.exportAuctionResultsCsv(request.getSeasonId()));
+			}
+			default -> throw new SplBadRequestException("Unsupported report type: " + request.getType());
+		}
+	}
+
+	private void write(SquadPdfCache.CachedPdf cached, ByteArrayOutputStream out) {
+		try {
+			cached.writeTo(out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/* prepared results are shared with the prepared map and not counted here */
+	private void retain(ReportJob job) {
+		synchronized (retained) {
+			retained.addLast(job);
+			retainedBytes += job.result.content().length;
+			while (retainedBytes > maxRetainedBytes && retained.size() > 1) {
+				ReportJob oldest = retained.removeFirst();
+				retainedBytes -= oldest.result.content().length;
+				jobs.remove(oldest.id);
+			}
+		}
+	}
+
+	private void validate(ReportJobRequest request) {
+		if (request.getType() == null) {
+			throw new SplBadRequestException("Report type is required");
+		}
+		if (request.getType() == ReportJobType.SQUAD_PDF ? request.getTeamSeasonId() == null
+				: request.getSeasonId() == null) {
+			throw new SplBadRequestException(request.getType() == ReportJobType.SQUAD_PDF
+					? "TeamSeasonId is required for squad PDF reports"
+					: "SeasonId is required for " + request.getType() + " reports");
+		}
+	}
+
+	/* squad PDFs are not kept here, SquadPdfCache already holds them */
+	private String preparedKey(ReportJobRequest request) {
+		return request.getType() == ReportJobType.SQUAD_PDF ? null : request.getType() + ":" + request.getSeasonId();
+	}
+
+	private ReportJob find(String jobId) {
+		ReportJob job = jobs.get(jobId);
+		if (job == null) {
+			throw new ResourceNotFoundException("ReportJob", jobId);
+		}
+		return job;
+	}
+
+	/* rough wait for the queue to drain by one slot per worker */
+	private long retryAfterSeconds() {
+		return Math.max(5, (long) queueCapacity / Math.max(1, renderPool.getMaximumPoolSize()));
+	}
+
+	public record ReportResult(String contentType, String fileName, byte[] content) {
+	}
+
+	private static class ReportJob {
+
+		private final String id;
+		private final ReportJobRequest request;
+		private final LocalDateTime submittedAt = LocalDateTime.now();
+		private volatile ReportJobStatus status = ReportJobStatus.QUEUED;
+		private volatile ReportResult result;
+		private volatile String error;
+		private volatile LocalDateTime completedAt;
+		private volatile LocalDateTime expiresAt;
+
+		ReportJob(String id, ReportJobRequest request) {
+			this.id = id;
+			this.request = request;
+		}
+
+		void complete(ReportResult result, long ttlMillis) {
+			this.result = result;
+			this.status = ReportJobStatus.COMPLETED;
+			finish(ttlMillis);
+		}
+
+		void fail(String error, long ttlMillis) {
+			this.error = error;
+			this.status = ReportJobStatus.FAILED;
+			finish(ttlMillis);
+		}
+
+		private void finish(long ttlMillis) {
+			completedAt = LocalDateTime.now();
+			expiresAt = completedAt.plusNanos(TimeUnit.MILLISECONDS.toNanos(ttlMillis));
+		}
+
+		ReportJobDto toDto() {
+			return ReportJobDto.builder()
+					.id(id)
+					.type(request.getType())
+					.status(status)
+					.fileName(result != null ? result.fileName() : null)
+					.error(error)
+					.submittedAt(submittedAt)
+					.completedAt(completedAt)
+					.expiresAt(expiresAt)
+					.build();
+		}
+	}
+}
@@ -11,6 +11,7 @@ import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import com.spl.spl.dto.PlayerLevelCalcDto;
@@ -37,6 +38,7 @@ public class RuleEngine {
      * @throws IllegalArgumentException if seasonId is null or context is null/empty
      * @example getRulesBySeasonAndContext(1L, "player_budget") -> [Rule{...}, ...]
      */
+    @Transactional(readOnly = true)
     public List<Rule> getRulesBySeasonAndContext(Long seasonId, String context) {
         if (seasonId == null) {
             throw new IllegalArgumentException("Season ID cannot be null");
@@ -0,0 +1,145 @@
+package com.spl.spl.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.spl.spl.dto.PlayerTeamChangeDto;
+import com.spl.spl.dto.SeasonChangesDto;
+import com.spl.spl.dto.TeamSeasonTotalsDto;
+import com.spl.spl.dto.UnsoldPlayerChangeDto;
+import com.spl.spl.event.SeasonChangedEvent;
+
+/**
+ * Bounded in-memory history of committed season changes, used to answer delta sync
+ * requests from clients that cannot keep an event stream open.
+ */
+@Service
+public class SeasonChangeLog {
+
+	private final SeasonVersionService seasonVersionService;
+	private final Map<Long, Window> history = new ConcurrentHashMap<>();
+	private final int windowSize;
+
+	public SeasonChangeLog(SeasonVersionService seasonVersionService,
+			@Value("${spl.changes.window-size:500}") int windowSize) {
+		this.seasonVersionService = seasonVersionService;
+		this.windowSize = windowSize;
+	}
+
+	@Order(20)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSeasonChanged(SeasonChangedEvent event) {
+		if (event.getSeasonId() == null) {
+			return;
+		}
+		Window window = history.computeIfAbsent(event.getSeasonId(), id -> new Window());
+		synchronized (window) {
+			Deque<SeasonChangedEvent> changes = window.changes;
+			// listeners of concurrent commits may run out of version order, keep the window sorted
+			List<SeasonChangedEvent> newer = new ArrayList<>();
+			while (!changes.isEmpty() && changes.peekLast().getVersion() > event.getVersion()) {
+				newer.add(0, changes.pollLast());
+			}
+			changes.addLast(event);
+			newer.forEach(changes::addLast);
+			while (changes.size() > windowSize) {
+				window.evictedThrough = Math.max(window.evictedThrough, changes.pollFirst().getVersion());
+			}
+		}
+	}
+
+	/**
+	 * Collects the rows changed after a client version, keeping only the latest state of each row.
+	 *
+	 * @param seasonId The season ID (must not be null)
+	 * @param since The last version the client has applied
+	 * @param epoch The epoch the client version belongs to (null to skip the check)
+	 * @return Changes since the version, or a full resync marker if they are no longer retained
+	 * @example changesSince(1L, 10, "lq3x9k") -> SeasonChangesDto{version=12, playerTeams=[...], ...}
+	 */
+	public SeasonChangesDto changesSince(Long seasonId, long since, String epoch) {
+		long current = seasonVersionService.currentVersion(seasonId);
+		if (since > current || since < 0
+				|| (epoch != null && !StringUtils.equals(epoch, seasonVersionService.getEpoch()))) {
+			return fullResync(seasonId, current);
+		}
+
+		Map<String, PlayerTeamChangeDto> playerTeams = new LinkedHashMap<>();
+		Map<String, UnsoldPlayerChangeDto> unsoldPlayers = new LinkedHashMap<>();
+		Map<String, TeamSeasonTotalsDto> teamSeasons = new LinkedHashMap<>();
+		long version = since;
+
+		Window window = history.get(seasonId);
+		if (window != null) {
+			synchronized (window) {
+				// only versions that fell out of the window are lost; a missing newer one is just not logged yet
+				if (since < window.evictedThrough) {
+					return fullResync(seasonId, current);
+				}
+				Iterator<SeasonChangedEvent> iterator = window.changes.iterator();
+				while (iterator.hasNext()) {
+					SeasonChangedEvent change = iterator.next();
+					if (change.getVersion() <= since) {
+						continue;
+					}
+					// stop at a gap: that version is committed but not logged yet
+					if (change.getVersion() != version + 1) {
+						break;
+					}
+					version = change.getVersion();
+					if (change.getPlayerTeams() != null) {
+						change.getPlayerTeams().forEach(row -> playerTeams.put(row.getCode(), row));
+					}
+					if (change.getUnsoldPlayers() != null) {
+						change.getUnsoldPlayers().forEach(row -> unsoldPlayers.put(row.getPlayerCode(), row));
+					}
+					if (change.getTeamSeasons() != null) {
+						change.getTeamSeasons().forEach(row -> teamSeasons.put(row.getCode(), row));
+					}
+				}
+			}
+		}
+
+		return SeasonChangesDto.builder()
+				.seasonId(seasonId)
+				.epoch(seasonVersionService.getEpoch())
+				.version(version)
+				.playerTeams(new ArrayList<>(playerTeams.values()))
+				.unsoldPlayers(new ArrayList<>(unsoldPlayers.values()))
+				.teamSeasons(new ArrayList<>(teamSeasons.values()))
+				.build();
+	}
+
+	private SeasonChangesDto fullResync(Long seasonId, long current) {
+		return SeasonChangesDto.builder()
+				.seasonId(seasonId)
+				.epoch(seasonVersionService.getEpoch())
+				.version(current)
+				.fullResync(true)
+				.playerTeams(List.of())
+				.unsoldPlayers(List.of())
+				.teamSeasons(List.of())
+				.build();
+	}
+
+	/* retained changes of one season, sorted by version */
+	private static final class Window {
+
+		private final Deque<SeasonChangedEvent> changes = new ArrayDeque<>();
+		/* newest version dropped from the window; clients behind it need a full resync */
+		private long evictedThrough;
+	}
+}
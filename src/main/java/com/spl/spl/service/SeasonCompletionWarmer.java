@@ -0,0 +1,109 @@
+package com.spl.spl.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.spl.spl.dto.ItemsResponse;
+import com.spl.spl.dto.ItemsResponse.ItemsData;
+import com.spl.spl.dto.ReportJobRequest;
+import com.spl.spl.dto.ReportJobType;
+import com.spl.spl.event.SeasonChangeType;
+import com.spl.spl.event.SeasonChangedEvent;
+import com.spl.spl.repository.SeasonRepository;
+import com.spl.spl.views.Views;
+import com.spl.spl.web.ReadCoalescingFilter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Prepares everything that is downloaded right after an auction closes. Once a season is
+ * completed its data is final, so squad PDFs, the season bundle and the result sheet are
+ * rendered in the background, and the responses of the season's read endpoints are built in
+ * process and stored pinned in the response cache, as a first request would have left them.
+ */
+@Service
+@Slf4j
+public class SeasonCompletionWarmer {
+
+	private final SeasonRepository seasonRepository;
+	private final ReportJobService reportJobService;
+	private final TeamSeasonService teamSeasonService;
+	private final PlayerService playerService;
+	private final ReadCoalescingFilter readCoalescingFilter;
+	private final TransactionTemplate readOnly;
+	private final ExecutorService warmer = Executors.newSingleThreadExecutor(Thread.ofVirtual().factory());
+
+	public SeasonCompletionWarmer(SeasonRepository seasonRepository, ReportJobService reportJobService,
+			TeamSeasonService teamSeasonService, PlayerService playerService,
+			ReadCoalescingFilter readCoalescingFilter, PlatformTransactionManager transactionManager) {
+		this.seasonRepository = seasonRepository;
+		this.reportJobService = reportJobService;
+		this.teamSeasonService = teamSeasonService;
+		this.playerService = playerService;
+		this.readCoalescingFilter = readCoalescingFilter;
+		this.readOnly = new TransactionTemplate(transactionManager);
+		this.readOnly.setReadOnly(true);
+	}
+
+	@Order(50)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSeasonChanged(SeasonChangedEvent event) {
+		if (event.getType() == SeasonChangeType.SEASON_UPDATED && event.getSeasonId() != null) {
+			warmer.execute(() -> warm(event.getSeasonId()));
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		warmer.shutdownNow();
+	}
+
+	private void warm(Long seasonId) {
+		if (!seasonRepository.existsByIdAndIsAuctionCompletedTrue(seasonId)) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		try {
+			// the bundle renders every squad PDF into SquadPdfCache on the way
+			reportJobService.prepare(reportRequest(ReportJobType.SEASON_SQUAD_BUNDLE, seasonId));
+			reportJobService.prepare(reportRequest(ReportJobType.AUCTION_RESULTS, seasonId));
+		} catch (RuntimeException e) {
+			log.warn("Pre-rendering reports of season {} failed: {}", seasonId, e.getMessage(), e);
+		}
+		warmReadCaches(seasonId);
+		log.info("Prepared reports and read caches of completed season {} in {} ms", seasonId,
+				System.currentTimeMillis() - start);
+	}
+
+	/*
+	 * same services, view and mapper as the controllers; serialised inside a read-only transaction,
+	 * as open-in-view does for requests, so lazy associations in the view can still load
+	 */
+	private void warmReadCaches(Long seasonId) {
+		try {
+			readOnly.executeWithoutResult(status -> {
+				readCoalescingFilter.prime("/api/team-seasons", seasonId, Views.TeamSeasonsView.class,
+						() -> new ItemsResponse<>(new ItemsData<>(teamSeasonService.getTeamSeasonsBySeason(seasonId))));
+				readCoalescingFilter.prime("/api/players/auction-result", seasonId, null,
+						() -> new ItemsResponse<>(new ItemsData<>(playerService.getAllAuctionResultPlayers(seasonId))));
+			});
+		} catch (RuntimeException e) {
+			log.warn("Warming read caches of season {} failed: {}", seasonId, e.getMessage(), e);
+		}
+	}
+
+	private ReportJobRequest reportRequest(ReportJobType type, Long seasonId) {
+		ReportJobRequest request = new ReportJobRequest();
+		request.setType(type);
+		request.setSeasonId(seasonId);
+		return request;
+	}
+}
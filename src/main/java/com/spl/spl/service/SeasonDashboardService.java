@@ -0,0 +1,94 @@
+package com.spl.spl.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.stereotype.Service;
+
+import com.spl.spl.dto.PlayerLevelCountDto;
+import com.spl.spl.dto.SeasonDashboardDto;
+import com.spl.spl.entity.PlayerCategory;
+import com.spl.spl.entity.PlayerLevel;
+import com.spl.spl.entity.Season;
+import com.spl.spl.entity.TeamSeason;
+import com.spl.spl.exception.ResourceNotFoundException;
+import com.spl.spl.repository.PlayerRepository;
+import com.spl.spl.repository.SeasonRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class SeasonDashboardService {
+
+	private final SeasonRepository seasonRepository;
+	private final TeamSeasonService teamSeasonService;
+	private final PlayerLevelService playerLevelService;
+	private final PlayerCategoryService playerCategoryService;
+	private final PlayerRepository playerRepository;
+
+	/**
+	 * Builds the auction dashboard for a season in one call. The independent sub-queries are
+	 * forked onto virtual threads and joined before the executor scope closes, so the request
+	 * waits roughly for the slowest query instead of their sum. Each query runs outside the
+	 * caller's persistence context, so only fully fetched results are used here.
+	 *
+	 * @param seasonId The season ID (must not be null)
+	 * @return Dashboard document for the season
+	 * @throws ResourceNotFoundException if the season does not exist
+	 */
+	public SeasonDashboardDto getDashboard(Long seasonId) {
+		try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+			Future<Season> season = scope.submit(() -> seasonRepository.findById(seasonId).orElse(null));
+			Future<List<TeamSeason>> teamSeasons = scope.submit(() -> teamSeasonService.getTeamSeasonsBySeason(seasonId));
+			Future<List<PlayerLevel>> playerLevels = scope.submit(playerLevelService::getAllPlayerLevels);
+			Future<List<PlayerCategory>> categories = scope.submit(playerCategoryService::getAllActiveCategories);
+			Future<List<PlayerLevelCountDto>> availableCounts = scope
+					.submit(() -> playerRepository.countPlayersNotInTeamGroupByLevel(seasonId));
+			Future<Long> unsoldCount = scope.submit(() -> playerRepository.countUnsoldPlayers(seasonId));
+
+			Season result = join(scope, season);
+			if (result == null) {
+				scope.shutdownNow();
+				throw new ResourceNotFoundException("Season", seasonId.toString());
+			}
+
+			List<PlayerLevel> levels = join(scope, playerLevels);
+			Map<String, Long> availablePlayerCounts = new LinkedHashMap<>();
+			levels.forEach(level -> availablePlayerCounts.put(level.getCode(), 0L));
+			join(scope, availableCounts).forEach(
+					count -> availablePlayerCounts.put(count.getPlayerLevelCode(), count.getCount()));
+
+			return SeasonDashboardDto.builder()
+					.season(result)
+					.teamSeasons(join(scope, teamSeasons))
+					.playerLevels(levels)
+					.categories(join(scope, categories))
+					.availablePlayerCounts(availablePlayerCounts)
+					.unsoldPlayerCount(join(scope, unsoldCount))
+					.build();
+		}
+	}
+
+	/* Waits for a forked sub-query; on failure cancels the remaining ones and rethrows the cause */
+	private <T> T join(ExecutorService scope, Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			scope.shutdownNow();
+			throw new IllegalStateException("Dashboard load interrupted", e);
+		} catch (ExecutionException e) {
+			scope.shutdownNow();
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("Dashboard load failed", e.getCause());
+		}
+	}
+}
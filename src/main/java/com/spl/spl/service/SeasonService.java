@@ -2,10 +2,13 @@ package com.spl.spl.service;
 
 import java.time.Year;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.spl.spl.entity.Season;
+import com.spl.spl.event.SeasonChangeType;
+import com.spl.spl.event.SeasonChangedEvent;
 import com.spl.spl.repository.SeasonRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -15,7 +18,9 @@ import lombok.RequiredArgsConstructor;
 public class SeasonService {
 
 	private final SeasonRepository seasonRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
+	@Transactional(readOnly = true)
 	public Season getCurrentSeason() {
 		return seasonRepository.findByYear(Year.now().getValue());
 	}
@@ -28,6 +33,11 @@ public class SeasonService {
 		season.setIsAuctionCompleted(true);
 		season.setAuctionCompletionNote(completionNote);
 		
-		return seasonRepository.save(season);
+		Season savedSeason = seasonRepository.save(season);
+		eventPublisher.publishEvent(SeasonChangedEvent.builder()
+				.seasonId(seasonId)
+				.type(SeasonChangeType.SEASON_UPDATED)
+				.build());
+		return savedSeason;
 	}
 }
\ No newline at end of file
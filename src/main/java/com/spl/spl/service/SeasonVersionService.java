@@ -0,0 +1,87 @@
+package com.spl.spl.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.spl.spl.event.SeasonChangedEvent;
+
+/**
+ * Keeps a monotonically increasing version per season, bumped after every committed
+ * auction write, and derives weak ETags from it so read endpoints can answer
+ * conditional requests without touching the database.
+ */
+@Service
+public class SeasonVersionService {
+
+	/* distinguishes versions handed out before a restart from the ones handed out after it */
+	private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+	private final AtomicLong rosterVersion = new AtomicLong();
+	/* bumped by every change, for data that is not scoped to one season */
+	private final AtomicLong globalVersion = new AtomicLong();
+	private final Map<Long, AtomicLong> seasonVersions = new ConcurrentHashMap<>();
+
+	/**
+	 * Identifies this process lifetime; versions are only comparable within one epoch.
+	 *
+	 * @return Epoch token, e.g. "lq3x9k"
+	 */
+	public String getEpoch() {
+		return epoch;
+	}
+
+	/**
+	 * Returns the current version of a season, 0 if it has not changed since startup.
+	 *
+	 * @param seasonId The season ID (null for roster-only data)
+	 * @return Current season version
+	 */
+	public long currentVersion(Long seasonId) {
+		if (seasonId == null) {
+			return rosterVersion.get();
+		}
+		AtomicLong version = seasonVersions.get(seasonId);
+		return version != null ? version.get() : 0L;
+	}
+
+	/**
+	 * Builds the weak ETag for data of a season; it also covers roster changes.
+	 *
+	 * @param seasonId The season ID (null for roster-only data)
+	 * @return Weak ETag, e.g. W/"lq3x9k-4-s1-12"
+	 * @example etag(1L) -> W/"lq3x9k-4-s1-12"
+	 */
+	public String etag(Long seasonId) {
+		String tag = epoch + "-" + rosterVersion.get();
+		if (seasonId != null) {
+			tag += "-s" + seasonId + "-" + currentVersion(seasonId);
+		}
+		return "W/\"" + tag + "\"";
+	}
+
+	/**
+	 * Builds the weak ETag for data not scoped to a season (current season, levels, categories).
+	 *
+	 * @return Weak ETag, e.g. W/"lq3x9k-g27"
+	 */
+	public String globalEtag() {
+		return "W/\"" + epoch + "-g" + globalVersion.get() + "\"";
+	}
+
+	@Order(0)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSeasonChanged(SeasonChangedEvent event) {
+		globalVersion.incrementAndGet();
+		if (event.getSeasonId() == null) {
+			event.setVersion(rosterVersion.incrementAndGet());
+		} else {
+			event.setVersion(seasonVersions.computeIfAbsent(event.getSeasonId(), id -> new AtomicLong())
+					.incrementAndGet());
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package com.spl.spl.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.spl.spl.entity.TeamSeason;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Exports the squad PDFs of a whole season as one ZIP. Squads are loaded with a single
+ * fetch plan, rendered in parallel on a bounded pool and written to the archive in the
+ * order they finish, so export time follows the number of cores rather than teams.
+ */
+@Service
+public class SquadPdfBundleService {
+
+	private final TeamSeasonService teamSeasonService;
+	private final PdfGenerationService pdfGenerationService;
+	private final SquadPdfCache squadPdfCache;
+	private final SeasonVersionService seasonVersionService;
+	private final ExecutorService renderPool;
+
+	public SquadPdfBundleService(TeamSeasonService teamSeasonService, PdfGenerationService pdfGenerationService,
+			SquadPdfCache squadPdfCache, SeasonVersionService seasonVersionService,
+			@Value("${spl.pdf.render-threads:0}") int renderThreads) {
+		this.teamSeasonService = teamSeasonService;
+		this.pdfGenerationService = pdfGenerationService;
+		this.squadPdfCache = squadPdfCache;
+		this.seasonVersionService = seasonVersionService;
+		this.renderPool = Executors.newFixedThreadPool(
+				renderThreads > 0 ? renderThreads : Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Loads the squads of a season; call before the response starts streaming.
+	 *
+	 * @param seasonId The season ID
+	 * @return Squads to pass to {@link #writeBundle}
+	 */
+	public SeasonSquads loadSquads(Long seasonId) {
+		String before = seasonVersionService.etag(seasonId);
+		// each render is cached under the version its squad had before it was read
+		Map<Long, String> etags = new HashMap<>();
+		teamSeasonService.getTeamSeasonIds(seasonId).forEach(id -> etags.put(id, squadPdfCache.etag(id)));
+		List<TeamSeason> teamSeasons = teamSeasonService.getTeamSeasonsForSquadPdfs(seasonId);
+		// renders may only be cached if nothing was committed while the squads were loading
+		boolean cacheable = before.equals(seasonVersionService.etag(seasonId));
+		return new SeasonSquads(teamSeasons, cacheable ? etags : Map.of());
+	}
+
+	/**
+	 * Renders every squad PDF in parallel and writes each one to the ZIP as soon as it is done.
+	 * PDFs already cached at the current version are reused as they are.
+	 *
+	 * @param squads Squads loaded with {@link #loadSquads}
+	 * @param out Destination of the ZIP archive
+	 * @throws IOException if the archive cannot be written
+	 */
+	public void writeBundle(SeasonSquads squads, OutputStream out) throws IOException {
+		Map<Long, String> entryNames = entryNames(squads.teamSeasons());
+		CompletionService<SquadPdf> completion = new ExecutorCompletionService<>(renderPool);
+		List<Future<SquadPdf>> pending = new ArrayList<>();
+		for (TeamSeason teamSeason : squads.teamSeasons()) {
+			pending.add(completion.submit(() -> render(teamSeason, squads.etags().get(teamSeason.getId()),
+					entryNames.get(teamSeason.getId()))));
+		}
+
+		try (ZipOutputStream zip = new ZipOutputStream(out)) {
+			for (int i = 0; i < pending.size(); i++) {
+				SquadPdf pdf = completion.take().get();
+				// PDF streams are already compressed, store them as they are
+				CRC32 crc = new CRC32();
+				crc.update(pdf.content());
+				ZipEntry entry = new ZipEntry(pdf.entryName());
+				entry.setMethod(ZipEntry.STORED);
+				entry.setSize(pdf.content().length);
+				entry.setCrc(crc.getValue());
+				zip.putNextEntry(entry);
+				zip.write(pdf.content());
+				zip.closeEntry();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Squad PDF export interrupted", e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException("Error generating PDF", e.getCause());
+		} finally {
+			pending.forEach(future -> future.cancel(true));
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		renderPool.shutdownNow();
+	}
+
+	/*
+	 * file names come from team names, which need not be unique: a name shared by several squads
+	 * gets the team season id appended, as a ZIP rejects duplicate entries
+	 */
+	private Map<Long, String> entryNames(List<TeamSeason> teamSeasons) {
+		Map<Long, String> fileNames = new HashMap<>();
+		Map<String, Integer> counts = new HashMap<>();
+		for (TeamSeason teamSeason : teamSeasons) {
+			String fileName = pdfGenerationService.squadPdfFileName(teamSeason);
+			fileNames.put(teamSeason.getId(), fileName);
+			counts.merge(fileName, 1, Integer::sum);
+		}
+		Map<Long, String> entryNames = new HashMap<>();
+		Set<String> used = new HashSet<>();
+		for (TeamSeason teamSeason : teamSeasons) {
+			String fileName = fileNames.get(teamSeason.getId());
+			String stem = StringUtils.removeEnd(fileName, ".pdf");
+			String entryName = counts.get(fileName) > 1 ? stem + "_" + teamSeason.getId() + ".pdf" : fileName;
+			for (int n = 2; !used.add(entryName); n++) {
+				entryName = stem + "_" + teamSeason.getId() + "_" + n + ".pdf";
+			}
+			entryNames.put(teamSeason.getId(), entryName);
+		}
+		return entryNames;
+	}
+
+	/* etag is null when the squad may have changed while loading: render it without caching */
+	private SquadPdf render(TeamSeason teamSeason, String etag, String entryName) throws IOException {
+		String fileName = pdfGenerationService.squadPdfFileName(teamSeason);
+		SquadPdfCache.CachedPdf cached = etag != null ? squadPdfCache.get(teamSeason.getId(), etag) : null;
+		ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+		if (cached != null) {
+			cached.writeTo(pdf);
+		} else if (etag != null) {
+			squadPdfCache.render(teamSeason.getId(), etag, fileName, pdf,
+					stream -> pdfGenerationService.writeTeamSquadPdf(teamSeason, stream));
+		} else {
+			pdfGenerationService.writeTeamSquadPdf(teamSeason, pdf);
+		}
+		return new SquadPdf(entryName, pdf.toByteArray());
+	}
+
+	/**
+	 * Squads of a season and, for the ones that may be cached, the squad PDF ETag taken before they were loaded.
+	 */
+	public record SeasonSquads(List<TeamSeason> teamSeasons, Map<Long, String> etags) {
+	}
+
+	private record SquadPdf(String entryName, byte[] content) {
+	}
+}
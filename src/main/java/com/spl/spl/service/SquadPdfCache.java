@@ -0,0 +1,266 @@
+package com.spl.spl.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.spl.spl.event.SeasonChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rendered squad PDFs keyed by team-season version. Recently used files stay in a byte-bounded
+ * memory LRU; evicted ones spill to a local directory. A sale or revert on a team bumps its
+ * version and drops its file, a roster change drops them all.
+ * <p>
+ * Files are written outside any lock under a temporary name and renamed into place before they
+ * are published. A disk hit opens its file while holding the lock evictions take, so a file
+ * deleted afterwards is still read to the end.
+ */
+@Service
+@Slf4j
+public class SquadPdfCache {
+
+	private final SeasonVersionService seasonVersionService;
+	private final Path directory;
+	private final long maxMemoryBytes;
+
+	private final Map<Long, AtomicLong> teamSeasonVersions = new ConcurrentHashMap<>();
+	private final LinkedHashMap<Long, CachedPdf> memory = new LinkedHashMap<>(64, 0.75f, true);
+	/* guarded by itself */
+	private final Map<Long, SpilledPdf> disk = new HashMap<>();
+	private long memoryBytes;
+
+	public SquadPdfCache(SeasonVersionService seasonVersionService,
+			@Value("${spl.squad-pdf-cache.dir:${java.io.tmpdir}/spl-squad-pdf}") Path directory,
+			@Value("${spl.squad-pdf-cache.max-memory-bytes:16777216}") long maxMemoryBytes) throws IOException {
+		this.seasonVersionService = seasonVersionService;
+		this.directory = directory;
+		this.maxMemoryBytes = maxMemoryBytes;
+		// versions restart with the process, files from a previous run can never match again
+		Files.createDirectories(directory);
+		try (Stream<Path> stale = Files.list(directory)) {
+			stale.forEach(this::delete);
+		}
+	}
+
+	/**
+	 * Builds the weak ETag of a team's squad PDF; it changes with sales, reverts and roster edits.
+	 *
+	 * @param teamSeasonId The team season ID
+	 * @return Weak ETag, e.g. W/"lq3x9k-r2-t7-5"
+	 */
+	public String etag(Long teamSeasonId) {
+		AtomicLong version = teamSeasonVersions.get(teamSeasonId);
+		return "W/\"" + seasonVersionService.getEpoch() + "-r" + seasonVersionService.currentVersion(null)
+				+ "-t" + teamSeasonId + "-" + (version != null ? version.get() : 0L) + "\"";
+	}
+
+	/**
+	 * Looks up the rendered PDF of a team season at the given version.
+	 *
+	 * @param teamSeasonId The team season ID
+	 * @param etag ETag the caller resolved before loading any data
+	 * @return Cached PDF, or null if it has to be rendered
+	 */
+	public CachedPdf get(Long teamSeasonId, String etag) {
+		synchronized (this) {
+			CachedPdf cached = memory.get(teamSeasonId);
+			if (cached != null && cached.etag().equals(etag)) {
+				return cached;
+			}
+		}
+		synchronized (disk) {
+			SpilledPdf spilled = disk.get(teamSeasonId);
+			if (spilled == null || !spilled.etag().equals(etag)) {
+				return null;
+			}
+			try {
+				return new CachedPdf(teamSeasonId, etag, spilled.fileName(), null, Files.newInputStream(spilled.file()));
+			} catch (IOException e) {
+				log.warn("Could not read spilled squad PDF of team season {}: {}", teamSeasonId, e.getMessage());
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Renders a PDF to the client while keeping a copy, then caches it under the version it was rendered for.
+	 *
+	 * @param teamSeasonId The team season ID
+	 * @param etag ETag resolved before the data was loaded
+	 * @param fileName Download name to replay on hits
+	 * @param out Client stream
+	 * @param renderer Writes the PDF to the stream it is given
+	 */
+	public void render(Long teamSeasonId, String etag, String fileName, OutputStream out,
+			Consumer<OutputStream> renderer) {
+		ByteArrayOutputStream copy = new ByteArrayOutputStream();
+		renderer.accept(new TeeOutputStream(out, copy));
+		put(new CachedPdf(teamSeasonId, etag, fileName, copy.toByteArray(), null));
+	}
+
+	@Order(40)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSeasonChanged(SeasonChangedEvent event) {
+		if (event.getSeasonId() == null) {
+			// player names, levels or categories changed: every squad sheet may show them
+			synchronized (this) {
+				memory.clear();
+				memoryBytes = 0;
+			}
+			List<SpilledPdf> spilled;
+			synchronized (disk) {
+				spilled = new ArrayList<>(disk.values());
+				disk.clear();
+			}
+			spilled.forEach(pdf -> delete(pdf.file()));
+			return;
+		}
+		if (event.getTeamSeasons() != null) {
+			event.getTeamSeasons().forEach(totals -> invalidate(totals.getId()));
+		}
+	}
+
+	private void invalidate(Long teamSeasonId) {
+		teamSeasonVersions.computeIfAbsent(teamSeasonId, id -> new AtomicLong()).incrementAndGet();
+		synchronized (this) {
+			CachedPdf removed = memory.remove(teamSeasonId);
+			if (removed != null) {
+				memoryBytes -= removed.content().length;
+			}
+		}
+		evictFromDisk(teamSeasonId);
+	}
+
+	private void put(CachedPdf pdf) {
+		// a render that finished after its version was superseded is not worth keeping
+		if (!pdf.etag().equals(etag(pdf.teamSeasonId()))) {
+			return;
+		}
+		if (pdf.content().length > maxMemoryBytes) {
+			spill(pdf);
+			return;
+		}
+		List<CachedPdf> evicted = new ArrayList<>();
+		synchronized (this) {
+			CachedPdf replaced = memory.put(pdf.teamSeasonId(), pdf);
+			memoryBytes += pdf.content().length - (replaced != null ? replaced.content().length : 0);
+			Iterator<CachedPdf> eldest = memory.values().iterator();
+			while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+				CachedPdf next = eldest.next();
+				eldest.remove();
+				memoryBytes -= next.content().length;
+				evicted.add(next);
+			}
+		}
+		evicted.forEach(this::spill);
+	}
+
+	private void spill(CachedPdf pdf) {
+		Path file;
+		try {
+			Path part = Files.createTempFile(directory, pdf.teamSeasonId() + "-", ".part");
+			Files.write(part, pdf.content());
+			file = part.resolveSibling(part.getFileName().toString().replace(".part", ".pdf"));
+			Files.move(part, file, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.warn("Could not spill squad PDF of team season {}: {}", pdf.teamSeasonId(), e.getMessage());
+			return;
+		}
+		SpilledPdf spilled = new SpilledPdf(pdf.etag(), pdf.fileName(), file);
+		SpilledPdf obsolete;
+		synchronized (disk) {
+			// checked under the lock invalidate() evicts with, after it has bumped the version
+			if (pdf.etag().equals(etag(pdf.teamSeasonId()))) {
+				obsolete = disk.put(pdf.teamSeasonId(), spilled);
+			} else {
+				obsolete = spilled;
+			}
+		}
+		if (obsolete != null) {
+			delete(obsolete.file());
+		}
+	}
+
+	private void evictFromDisk(Long teamSeasonId) {
+		SpilledPdf spilled;
+		synchronized (disk) {
+			spilled = disk.remove(teamSeasonId);
+		}
+		if (spilled != null) {
+			delete(spilled.file());
+		}
+	}
+
+	private void delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.warn("Could not delete cached squad PDF {}: {}", file, e.getMessage());
+		}
+	}
+
+	/**
+	 * A rendered squad PDF, held either in memory ({@code content}) or read from its already opened
+	 * spill file ({@code spilled}), which {@link #writeTo} closes.
+	 */
+	public record CachedPdf(Long teamSeasonId, String etag, String fileName, byte[] content, InputStream spilled) {
+
+		public void writeTo(OutputStream out) throws IOException {
+			if (content != null) {
+				out.write(content);
+				return;
+			}
+			try (InputStream in = spilled) {
+				in.transferTo(out);
+			}
+		}
+	}
+
+	private record SpilledPdf(String etag, String fileName, Path file) {
+	}
+
+	private static class TeeOutputStream extends FilterOutputStream {
+
+		private final OutputStream copy;
+
+		TeeOutputStream(OutputStream out, OutputStream copy) {
+			super(out);
+			this.copy = copy;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			copy.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			copy.write(b, off, len);
+		}
+	}
+}
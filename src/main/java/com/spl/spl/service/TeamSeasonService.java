@@ -1,8 +1,14 @@
 package com.spl.spl.service;
 
 import java.util.List;
+
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spl.spl.dto.FieldSelection;
 import com.spl.spl.entity.TeamSeason;
+import com.spl.spl.exception.ResourceNotFoundException;
 import com.spl.spl.repository.TeamSeasonRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -13,10 +19,68 @@ public class TeamSeasonService {
 	private final TeamSeasonRepository teamSeasonRepository;
 
 	public List<TeamSeason> getTeamSeasonsBySeason(Long seasonId) {
+		return getTeamSeasonsBySeason(seasonId, FieldSelection.ALL);
+	}
+
+	/* only join the associations the client will actually receive */
+	@Transactional(readOnly = true)
+	public List<TeamSeason> getTeamSeasonsBySeason(Long seasonId, FieldSelection fields) {
+		if (fields.includesAny("team", "season", "teamSeasonPlayerLevels")) {
+			return teamSeasonRepository.findWithLevelsBySeasonId(seasonId);
+		}
 		return teamSeasonRepository.findBySeasonId(seasonId);
 	}
 
 	public TeamSeason getTeamSeason(Long id) {
+		return getTeamSeason(id, FieldSelection.ALL);
+	}
+
+	@Transactional(readOnly = true)
+	public TeamSeason getTeamSeason(Long id, FieldSelection fields) {
+		if (fields.includes("playerTeams")) {
+			return teamSeasonRepository.findDetailedById(id).orElse(null);
+		}
 		return teamSeasonRepository.findById(id).orElse(null);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Loads everything the squad PDF renders, so it can be streamed after the request thread has returned.
+	 *
+	 * @param id The team season ID
+	 * @return Team season with squad and level summaries initialised
+	 */
+	@Transactional(readOnly = true)
+	public TeamSeason getTeamSeasonForSquadPdf(Long id) {
+		TeamSeason teamSeason = teamSeasonRepository.findDetailedById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("TeamSeason", id.toString()));
+		teamSeason.getTeamSeasonPlayerLevels().forEach(level -> Hibernate.initialize(level.getPlayerLevel()));
+		return teamSeason;
+	}
+
+	/**
+	 * Lists the team seasons of a season by id only, e.g. to build a version tag per squad
+	 * before anything is loaded.
+	 *
+	 * @param seasonId The season ID
+	 * @return Team season IDs
+	 */
+	@Transactional(readOnly = true)
+	public List<Long> getTeamSeasonIds(Long seasonId) {
+		return teamSeasonRepository.findIdsBySeasonId(seasonId);
+	}
+
+	/**
+	 * Loads the squads of every team in a season for PDF rendering: one query for the squads,
+	 * level summaries batch fetched for all teams at once.
+	 *
+	 * @param seasonId The season ID
+	 * @return Team seasons with squad and level summaries initialised
+	 */
+	@Transactional(readOnly = true)
+	public List<TeamSeason> getTeamSeasonsForSquadPdfs(Long seasonId) {
+		List<TeamSeason> teamSeasons = teamSeasonRepository.findSquadsBySeasonId(seasonId);
+		teamSeasons.forEach(teamSeason -> teamSeason.getTeamSeasonPlayerLevels()
+				.forEach(level -> Hibernate.initialize(level.getPlayerLevel())));
+		return teamSeasons;
+	}
+}
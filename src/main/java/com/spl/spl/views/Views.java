@@ -19,4 +19,5 @@ public class Views {
     public static class AdminView extends Detailed {}
     public static class SeasonView extends Summary {}
     public static class PlayerLevel extends Base {}
+    public static class SeasonDashboardView extends TeamSeasonsView {}
 }
\ No newline at end of file
@@ -0,0 +1,263 @@
+package com.spl.spl.web;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.spl.spl.config.ReplicaLagGuard;
+import com.spl.spl.service.SeasonVersionService;
+import com.spl.spl.views.Views;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Serves hot read endpoints from pre-serialised bytes. A hit in {@link ResponseBodyCache} is
+ * written straight to the response, skipping entity loading and Jackson entirely. On a miss,
+ * concurrent identical GETs (same path, parameters and representation) share one in-flight
+ * computation whose bytes are then cached. The data version is part of the key, so a committed
+ * change starts a new computation right away.
+ */
+@Component
+@Slf4j
+public class ReadCoalescingFilter extends OncePerRequestFilter {
+
+	/*
+	 * cached endpoint -> JSON view its controller method renders with. /api/players/available and
+	 * /api/players/unsold are left out: each call is meant to return a fresh random order.
+	 */
+	private static final Map<String, String> CACHED_ENDPOINTS = Map.of(
+			"/api/team-seasons", Views.TeamSeasonsView.class.getSimpleName(),
+			"/api/players/auction-result", "Default",
+			"/api/seasons/current", Views.SeasonView.class.getSimpleName(),
+			"/api/player-levels", Views.PlayerLevel.class.getSimpleName(),
+			"/api/player-categories", Views.Summary.class.getSimpleName());
+
+	private static final List<MediaType> REPRESENTATIONS = List.of(MediaType.APPLICATION_JSON,
+			MediaType.APPLICATION_CBOR, MediaType.parseMediaType("application/x-jackson-smile"));
+
+	private static final String SEASON_PARAM = "seasonId";
+
+	/* Vary values of a cached response: ours, then those of the @CrossOrigin interceptor */
+	private static final List<String> VARY = List.of(HttpHeaders.ACCEPT, HttpHeaders.ORIGIN,
+			HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+
+	private final SeasonVersionService seasonVersionService;
+	private final ResponseBodyCache responseBodyCache;
+	private final JsonMapper jsonMapper;
+	private final Map<String, CompletableFuture<ResponseBodyCache.Entry>> inFlight = new ConcurrentHashMap<>();
+	private final long waitMillis;
+
+	public ReadCoalescingFilter(SeasonVersionService seasonVersionService, ResponseBodyCache responseBodyCache,
+			JsonMapper jsonMapper, @Value("${spl.read-coalescing.wait-millis:10000}") long waitMillis) {
+		this.seasonVersionService = seasonVersionService;
+		this.responseBodyCache = responseBodyCache;
+		this.jsonMapper = jsonMapper;
+		this.waitMillis = waitMillis;
+	}
+
+	/**
+	 * Caches the JSON response of a season-scoped endpoint without going through a request, for
+	 * same-origin and cross-origin clients, under the keys their GETs look up. The body is
+	 * serialised with the application's JSON mapper and the handler's view, as the message
+	 * converter does, and stored with the headers the handler chain would have set.
+	 *
+	 * @param uri Cached endpoint, e.g. /api/team-seasons
+	 * @param seasonId Season the response is for, sent by clients as the seasonId parameter
+	 * @param view JSON view of the handler method, null if it has none
+	 * @param body Loads the body as the handler returns it; called after the ETag is taken
+	 */
+	public void prime(String uri, Long seasonId, Class<?> view, Supplier<Object> body) {
+		String etag = seasonVersionService.etag(seasonId);
+		byte[] json = jsonMapper.writerWithView(view).writeValueAsBytes(body.get());
+		Map<String, String[]> parameters = Map.of(SEASON_PARAM, new String[] { seasonId.toString() });
+		for (boolean cors : new boolean[] { false, true }) {
+			Map<String, List<String>> headers = new LinkedHashMap<>();
+			headers.put(HttpHeaders.ETAG, List.of(etag));
+			headers.put(HttpHeaders.VARY, VARY);
+			if (cors) {
+				// every cached endpoint is @CrossOrigin(origins = "*")
+				headers.put(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, List.of("*"));
+			}
+			responseBodyCache.put(keyOf(uri, parameters, MediaType.APPLICATION_JSON.getSubtype(), cors, etag),
+					seasonId, MediaType.APPLICATION_JSON_VALUE, headers, json);
+		}
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		if (!"GET".equals(request.getMethod()) || !CACHED_ENDPOINTS.containsKey(request.getRequestURI())) {
+			return true;
+		}
+		String seasonId = request.getParameter(SEASON_PARAM);
+		return seasonId != null && !StringUtils.isNumeric(seasonId);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		Long seasonId = seasonIdOf(request);
+		String etag = seasonId != null ? seasonVersionService.etag(seasonId) : seasonVersionService.globalEtag();
+		// parsed as Spring does for handlers (lists, *, W/); without the response nothing is written yet
+		if (new ServletWebRequest(request).checkNotModified(etag)) {
+			response.setStatus(HttpStatus.NOT_MODIFIED.value());
+			response.setHeader(HttpHeaders.ETAG, etag);
+			return;
+		}
+
+		String key = keyOf(request, etag);
+		ResponseBodyCache.Entry cached = responseBodyCache.get(key);
+		if (cached != null) {
+			write(cached, request, response);
+			return;
+		}
+
+		CompletableFuture<ResponseBodyCache.Entry> flight = new CompletableFuture<>();
+		CompletableFuture<ResponseBodyCache.Entry> existing = inFlight.putIfAbsent(key, flight);
+		if (existing == null) {
+			lead(request, response, chain, key, seasonId, etag, flight);
+			return;
+		}
+
+		ResponseBodyCache.Entry shared = await(existing);
+		if (shared != null) {
+			write(shared, request, response);
+		} else {
+			chain.doFilter(request, response);
+		}
+	}
+
+	private void lead(HttpServletRequest request, HttpServletResponse response, FilterChain chain, String key,
+			Long seasonId, String etag, CompletableFuture<ResponseBodyCache.Entry> flight)
+			throws ServletException, IOException {
+		ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+		ResponseBodyCache.Entry entry = null;
+		try {
+			if (wrapper.getHeader(HttpHeaders.ETAG) == null) {
+				wrapper.setHeader(HttpHeaders.ETAG, etag);
+			}
+			wrapper.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+			// the body is cached for everyone under this etag, so it must not come from a lagging replica
+			request.setAttribute(ReplicaLagGuard.SHARED_READ_ATTRIBUTE, Boolean.TRUE);
+			chain.doFilter(request, wrapper);
+			if (wrapper.getStatus() == HttpStatus.OK.value()) {
+				entry = responseBodyCache.put(key, seasonId, wrapper.getContentType(), headersOf(wrapper),
+						wrapper.getContentAsByteArray());
+			}
+			wrapper.copyBodyToResponse();
+		} finally {
+			inFlight.remove(key, flight);
+			flight.complete(entry);
+		}
+	}
+
+	/* Waits for the leading request; null tells the caller to compute the response itself */
+	private ResponseBodyCache.Entry await(CompletableFuture<ResponseBodyCache.Entry> flight) {
+		try {
+			return flight.get(waitMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException | TimeoutException e) {
+			log.debug("Coalesced read not shared: {}", e.toString());
+			return null;
+		}
+	}
+
+	private void write(ResponseBodyCache.Entry entry, HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+		response.setStatus(HttpStatus.OK.value());
+		if (entry.contentType() != null) {
+			response.setContentType(entry.contentType());
+		}
+		entry.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+		response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+		byte[] body = entry.body();
+		String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		if (entry.gzipBody() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+			body = entry.gzipBody();
+		}
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	/* ETag, CORS and Vary headers set by the handler, replayed on every hit */
+	private Map<String, List<String>> headersOf(HttpServletResponse response) {
+		Map<String, List<String>> headers = new LinkedHashMap<>();
+		for (String name : response.getHeaderNames()) {
+			if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+				headers.put(name, List.copyOf(response.getHeaders(name)));
+			}
+		}
+		return headers;
+	}
+
+	private String keyOf(HttpServletRequest request, String etag) {
+		return keyOf(request.getRequestURI(), request.getParameterMap(), representationOf(request),
+				request.getHeader(HttpHeaders.ORIGIN) != null, etag);
+	}
+
+	/* endpoint, view, sorted parameters, requested representation, CORS and data version */
+	private String keyOf(String uri, Map<String, String[]> parameters, String representation, boolean cors,
+			String etag) {
+		StringBuilder key = new StringBuilder(uri).append('|').append(CACHED_ENDPOINTS.get(uri)).append('?');
+		new TreeMap<>(parameters).forEach(
+				(name, values) -> key.append(name).append('=').append(String.join(",", values)).append('&'));
+		return key.append('|').append(representation)
+				.append('|').append(cors ? "cors" : "same-origin")
+				.append('|').append(etag).toString();
+	}
+
+	/* the converter content negotiation would pick: same quality and specificity order, JSON first */
+	private String representationOf(HttpServletRequest request) {
+		String accept = request.getHeader(HttpHeaders.ACCEPT);
+		if (StringUtils.isBlank(accept)) {
+			return MediaType.APPLICATION_JSON.getSubtype();
+		}
+		try {
+			List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+			MimeTypeUtils.sortBySpecificity(accepted);
+			for (MediaType mediaType : accepted) {
+				for (MediaType representation : REPRESENTATIONS) {
+					if (mediaType.isCompatibleWith(representation)) {
+						return representation.getSubtype();
+					}
+				}
+			}
+		} catch (InvalidMediaTypeException e) {
+			log.debug("Unparseable Accept header: {}", accept);
+		}
+		return accept;
+	}
+
+	private Long seasonIdOf(HttpServletRequest request) {
+		String seasonId = request.getParameter(SEASON_PARAM);
+		return seasonId != null ? Long.valueOf(seasonId) : null;
+	}
+}
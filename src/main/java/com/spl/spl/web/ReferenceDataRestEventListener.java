@@ -0,0 +1,70 @@
+package com.spl.spl.web;
+
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.rest.core.event.AbstractRepositoryEventListener;
+import org.springframework.stereotype.Component;
+
+import com.spl.spl.entity.Season;
+import com.spl.spl.event.SeasonChangeType;
+import com.spl.spl.event.SeasonChangedEvent;
+import com.spl.spl.service.CodeIdCache;
+import com.spl.spl.service.ReferenceDataCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reacts to entities changed through the Data REST endpoints, where any field or code may have
+ * been edited: evicts the second-level cache, forgets remembered code ids and publishes a roster
+ * wide {@link SeasonChangedEvent}, so versions, ETags and cached responses move on as they do
+ * for auction writes. The repository transaction has committed by the time these events fire.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRestEventListener extends AbstractRepositoryEventListener<Object> {
+
+	private final ReferenceDataCache referenceDataCache;
+	private final CodeIdCache codeIdCache;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Override
+	protected void onAfterCreate(Object entity) {
+		evict(entity);
+	}
+
+	@Override
+	protected void onAfterSave(Object entity) {
+		evict(entity);
+	}
+
+	@Override
+	protected void onAfterDelete(Object entity) {
+		evict(entity);
+	}
+
+	@Override
+	protected void onAfterLinkSave(Object parent, Object linked) {
+		evict(parent);
+	}
+
+	@Override
+	protected void onAfterLinkDelete(Object parent, Object linked) {
+		evict(parent);
+	}
+
+	private void evict(Object entity) {
+		referenceDataCache.evict(entity);
+		codeIdCache.invalidateAll(Hibernate.getClass(entity));
+		// names, codes, levels or budgets can show up in any season's responses and squad PDFs
+		eventPublisher.publishEvent(SeasonChangedEvent.builder()
+				.type(SeasonChangeType.ROSTER_UPDATED)
+				.build());
+		if (entity instanceof Season season) {
+			// completion state may have changed: re-check pinning and warm a completed season
+			eventPublisher.publishEvent(SeasonChangedEvent.builder()
+					.seasonId(season.getId())
+					.type(SeasonChangeType.SEASON_UPDATED)
+					.build());
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.spl.spl.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.spl.spl.event.SeasonChangeType;
+import com.spl.spl.event.SeasonChangedEvent;
+import com.spl.spl.repository.SeasonRepository;
+
+/**
+ * Byte-bounded LRU of serialised read responses, keyed by endpoint, JSON view, parameters,
+ * representation and data version. Bodies above the gzip threshold are also kept compressed.
+ * Entries of active seasons expire after a TTL; entries of completed seasons never expire,
+ * they only leave the cache through LRU eviction.
+ */
+@Component
+public class ResponseBodyCache {
+
+	private final SeasonRepository seasonRepository;
+	private final long maxBytes;
+	private final long ttlMillis;
+	private final int gzipThreshold;
+
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+	private final Map<Long, Boolean> completedSeasons = new ConcurrentHashMap<>();
+	private long totalBytes;
+
+	public ResponseBodyCache(SeasonRepository seasonRepository,
+			@Value("${spl.response-cache.max-bytes:33554432}") long maxBytes,
+			@Value("${spl.response-cache.ttl-millis:60000}") long ttlMillis,
+			@Value("${spl.response-cache.gzip-threshold-bytes:1024}") int gzipThreshold) {
+		this.seasonRepository = seasonRepository;
+		this.maxBytes = maxBytes;
+		this.ttlMillis = ttlMillis;
+		this.gzipThreshold = gzipThreshold;
+	}
+
+	public synchronized Entry get(String key) {
+		Entry entry = entries.get(key);
+		if (entry != null && !entry.pinned() && System.currentTimeMillis() - entry.createdAt() > ttlMillis) {
+			remove(key);
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * Stores a serialised response, compressing it once when it is worth it.
+	 *
+	 * @param key Cache key built by the caller
+	 * @param seasonId Season the response belongs to, null for data not scoped to a season
+	 * @param contentType Response content type
+	 * @param headers Headers to replay on a hit
+	 * @param body Serialised body
+	 * @return The stored entry
+	 */
+	public Entry put(String key, Long seasonId, String contentType, Map<String, List<String>> headers, byte[] body) {
+		byte[] gzipBody = body.length >= gzipThreshold ? gzip(body) : null;
+		Entry entry = new Entry(contentType, headers, body, gzipBody, System.currentTimeMillis(),
+				seasonId != null && isCompleted(seasonId));
+		synchronized (this) {
+			remove(key);
+			entries.put(key, entry);
+			totalBytes += entry.size();
+			Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+			while (totalBytes > maxBytes && eldest.hasNext()) {
+				totalBytes -= eldest.next().getValue().size();
+				eldest.remove();
+			}
+		}
+		return entry;
+	}
+
+	@Order(30)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSeasonChanged(SeasonChangedEvent event) {
+		if (event.getSeasonId() != null && event.getType() == SeasonChangeType.SEASON_UPDATED) {
+			completedSeasons.remove(event.getSeasonId());
+		}
+	}
+
+	private boolean isCompleted(Long seasonId) {
+		return completedSeasons.computeIfAbsent(seasonId, seasonRepository::existsByIdAndIsAuctionCompletedTrue);
+	}
+
+	private void remove(String key) {
+		Entry removed = entries.remove(key);
+		if (removed != null) {
+			totalBytes -= removed.size();
+		}
+	}
+
+	private static byte[] gzip(byte[] body) {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+			gzip.write(body);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return compressed.toByteArray();
+	}
+
+	public record Entry(String contentType, Map<String, List<String>> headers, byte[] body, byte[] gzipBody,
+			long createdAt, boolean pinned) {
+
+		long size() {
+			return body.length + (gzipBody != null ? gzipBody.length : 0);
+		}
+	}
+}
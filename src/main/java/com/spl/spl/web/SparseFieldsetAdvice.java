@@ -0,0 +1,144 @@
+package com.spl.spl.web;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.spl.spl.controller.PlayerController;
+import com.spl.spl.controller.SeasonController;
+import com.spl.spl.controller.TeamSeasonController;
+import com.spl.spl.dto.FieldSelection;
+import com.spl.spl.dto.ItemResponse;
+import com.spl.spl.dto.ItemsResponse;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.databind.JacksonSerializable;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.PropertyWriter;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+/**
+ * Applies the {@code fields} query parameter to read responses. The body is serialised once with
+ * the handler's {@code @JsonView} and a filter that skips unselected properties, so associations
+ * nobody asked for are never touched (and never lazily loaded). The response wrappers are always
+ * kept; paths are relative to each item.
+ */
+@ControllerAdvice(assignableTypes = { TeamSeasonController.class, PlayerController.class, SeasonController.class })
+public class SparseFieldsetAdvice implements ResponseBodyAdvice<Object> {
+
+	private static final String FILTER_ID = "fieldSelection";
+
+	private final JsonMapper fieldsMapper;
+
+	public SparseFieldsetAdvice(JsonMapper jsonMapper) {
+		this.fieldsMapper = jsonMapper.rebuild()
+				.addMixIn(Object.class, FieldSelectionMixin.class)
+				.build();
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return AbstractJacksonHttpMessageConverter.class.isAssignableFrom(converterType);
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		if (!(body instanceof ItemsResponse<?> || body instanceof ItemResponse<?>)
+				|| !(request instanceof ServletServerHttpRequest servletRequest)) {
+			return body;
+		}
+		FieldSelection fields = FieldSelection.parse(servletRequest.getServletRequest().getParameter(FieldSelection.PARAM));
+		if (fields.isAll()) {
+			return body;
+		}
+		JsonView jsonView = returnType.getMethodAnnotation(JsonView.class);
+		return select(body, jsonView != null ? jsonView.value()[0] : null, fields);
+	}
+
+	/* written once, straight into the generator of whichever converter was negotiated (JSON, CBOR or Smile) */
+	FilteredBody select(Object body, Class<?> view, FieldSelection fields) {
+		ObjectWriter writer = fieldsMapper.writerWithView(view)
+				.with(new SimpleFilterProvider().addFilter(FILTER_ID, new FieldSelectionFilter(fields)));
+		return new FilteredBody(body, writer);
+	}
+
+	static final class FilteredBody extends JacksonSerializable.Base {
+
+		private final Object body;
+		private final ObjectWriter writer;
+
+		FilteredBody(Object body, ObjectWriter writer) {
+			this.body = body;
+			this.writer = writer;
+		}
+
+		@Override
+		public void serialize(JsonGenerator g, SerializationContext ctxt) {
+			writer.writeValue(g, body);
+		}
+
+		@Override
+		public void serializeWithType(JsonGenerator g, SerializationContext ctxt, TypeSerializer typeSer) {
+			serialize(g, ctxt);
+		}
+	}
+
+	@JsonFilter(FILTER_ID)
+	private abstract static class FieldSelectionMixin {
+	}
+
+	private static class FieldSelectionFilter extends SimpleBeanPropertyFilter {
+
+		private final FieldSelection fields;
+
+		FieldSelectionFilter(FieldSelection fields) {
+			this.fields = fields;
+		}
+
+		@Override
+		public void serializeAsProperty(Object pojo, JsonGenerator g, SerializationContext ctxt, PropertyWriter writer)
+				throws Exception {
+			if (isWrapper(pojo) || fields.includes(pathOf(g, writer))) {
+				writer.serializeAsProperty(pojo, g, ctxt);
+			}
+		}
+
+		/* dotted path from the enclosing item, e.g. "team.name" */
+		private String pathOf(JsonGenerator g, PropertyWriter writer) {
+			Deque<String> segments = new ArrayDeque<>();
+			segments.push(writer.getName());
+			for (TokenStreamContext parent = g.streamWriteContext().getParent(); parent != null; parent = parent.getParent()) {
+				if (parent.inObject()) {
+					if (isWrapper(parent.currentValue())) {
+						break;
+					}
+					segments.push(parent.currentName());
+				}
+			}
+			return String.join(".", segments);
+		}
+
+		private boolean isWrapper(Object value) {
+			return value instanceof ItemsResponse<?> || value instanceof ItemsResponse.ItemsData<?>
+					|| value instanceof ItemResponse<?> || value instanceof ItemResponse.ItemData<?>;
+		}
+	}
+}
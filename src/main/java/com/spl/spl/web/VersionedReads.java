@@ -0,0 +1,43 @@
+package com.spl.spl.web;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+
+import com.spl.spl.config.ReplicaLagGuard;
+import com.spl.spl.service.SeasonVersionService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Answers reads whose content only changes with the season version: 304 while the client's
+ * ETag is current, otherwise the body tagged with the version it was read at. Every client may
+ * keep the body under that ETag, so the read counts as shared for replica routing.
+ */
+@Component
+@RequiredArgsConstructor
+public class VersionedReads {
+
+	private final SeasonVersionService seasonVersionService;
+
+	/**
+	 * @param seasonId The season the data belongs to (null for roster-only data)
+	 * @param webRequest The current request, checked against its If-None-Match
+	 * @param body Reads the body, only called when the client's copy is stale
+	 * @return 304 Not Modified or 200 with the body, both carrying the version ETag
+	 * @example read(1L, webRequest, () -> new ItemsResponse<>(...)) -> 200 ETag: W/"lq3x9k-4-s1-12"
+	 */
+	public <T> ResponseEntity<T> read(Long seasonId, WebRequest webRequest, Supplier<T> body) {
+		// taken before reading, so a body is never tagged with a newer version than its data
+		String etag = seasonVersionService.etag(seasonId);
+		if (webRequest.checkNotModified(etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+		}
+		webRequest.setAttribute(ReplicaLagGuard.SHARED_READ_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+		return ResponseEntity.ok().eTag(etag).body(body.get());
+	}
+}
@@ -0,0 +1,146 @@
+-- Schema as the entities defined it before migrations took over. Databases that already have
+-- these tables are baselined at version 1 (spring.flyway.baseline-on-migrate) and skip this file.
+
+CREATE TABLE player_level (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    code VARCHAR(255),
+    name VARCHAR(255),
+    base_amount DECIMAL(38,2),
+    is_free BOOLEAN DEFAULT FALSE,
+    is_random_team_selection BOOLEAN DEFAULT FALSE,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_player_level_code UNIQUE (code)
+) ENGINE=InnoDB;
+
+CREATE TABLE player_category (
+    code VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    icon_path VARCHAR(255),
+    is_active BOOLEAN DEFAULT TRUE,
+    PRIMARY KEY (code)
+) ENGINE=InnoDB;
+
+CREATE TABLE player (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    code VARCHAR(255),
+    name VARCHAR(255),
+    image_url VARCHAR(255),
+    is_active BOOLEAN DEFAULT TRUE,
+    player_level_id BIGINT,
+    category_code VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_player_code UNIQUE (code),
+    CONSTRAINT fk_player_player_level FOREIGN KEY (player_level_id) REFERENCES player_level (id),
+    CONSTRAINT fk_player_category FOREIGN KEY (category_code) REFERENCES player_category (code)
+) ENGINE=InnoDB;
+
+CREATE TABLE season (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    code VARCHAR(255),
+    year INTEGER,
+    min_player_amount DECIMAL(38,2),
+    budget_limit DECIMAL(38,2),
+    max_players_allowed INTEGER,
+    max_rtm_allowed INTEGER,
+    max_free_allowed INTEGER,
+    is_auction_completed BOOLEAN DEFAULT FALSE,
+    auction_completion_note VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_season_code UNIQUE (code)
+) ENGINE=InnoDB;
+
+CREATE TABLE team (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    code VARCHAR(255),
+    name VARCHAR(255),
+    logo_url VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_team_code UNIQUE (code)
+) ENGINE=InnoDB;
+
+CREATE TABLE team_season (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    code VARCHAR(255),
+    team_id BIGINT,
+    season_id BIGINT,
+    total_amount_spent DECIMAL(38,2),
+    total_rtm_used INTEGER,
+    total_free_used INTEGER,
+    total_player INTEGER,
+    is_rtm_eligible BOOLEAN DEFAULT FALSE,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_team_season_code UNIQUE (code),
+    CONSTRAINT uk_team_season_team_season UNIQUE (team_id, season_id),
+    CONSTRAINT fk_team_season_team FOREIGN KEY (team_id) REFERENCES team (id),
+    CONSTRAINT fk_team_season_season FOREIGN KEY (season_id) REFERENCES season (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE player_team (
+    player_id BIGINT NOT NULL,
+    team_season_id BIGINT NOT NULL,
+    code VARCHAR(255),
+    sold_amount DECIMAL(38,2),
+    is_manager BOOLEAN DEFAULT FALSE,
+    is_rtm_used BOOLEAN DEFAULT FALSE,
+    is_free BOOLEAN DEFAULT FALSE,
+    was_unsold BOOLEAN DEFAULT FALSE,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (player_id, team_season_id),
+    CONSTRAINT uk_player_team_code UNIQUE (code),
+    CONSTRAINT fk_player_team_player FOREIGN KEY (player_id) REFERENCES player (id),
+    CONSTRAINT fk_player_team_team_season FOREIGN KEY (team_season_id) REFERENCES team_season (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE team_season_player_level (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    team_season_id BIGINT,
+    player_level_id BIGINT,
+    total_amount_spent DECIMAL(38,2),
+    next_player_budget DECIMAL(38,2),
+    total_player_count INTEGER,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_team_season_player_level UNIQUE (team_season_id, player_level_id),
+    CONSTRAINT fk_tspl_team_season FOREIGN KEY (team_season_id) REFERENCES team_season (id),
+    CONSTRAINT fk_tspl_player_level FOREIGN KEY (player_level_id) REFERENCES player_level (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE unsold_player (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    player_id BIGINT,
+    season_id BIGINT,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_unsold_player_player_season UNIQUE (player_id, season_id),
+    CONSTRAINT fk_unsold_player_player FOREIGN KEY (player_id) REFERENCES player (id),
+    CONSTRAINT fk_unsold_player_season FOREIGN KEY (season_id) REFERENCES season (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE rule (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    context VARCHAR(100) NOT NULL,
+    rule_category VARCHAR(100),
+    rule_name VARCHAR(200),
+    rule_statement VARCHAR(500) NOT NULL,
+    notation_map TEXT,
+    map_names TEXT,
+    is_active BOOLEAN NOT NULL,
+    priority INTEGER NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE season_rule (
+    season_id BIGINT NOT NULL,
+    rule_id BIGINT NOT NULL,
+    code VARCHAR(255),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (rule_id, season_id),
+    CONSTRAINT uk_season_rule_code UNIQUE (code),
+    CONSTRAINT fk_season_rule_season FOREIGN KEY (season_id) REFERENCES season (id),
+    CONSTRAINT fk_season_rule_rule FOREIGN KEY (rule_id) REFERENCES rule (id)
+) ENGINE=InnoDB;
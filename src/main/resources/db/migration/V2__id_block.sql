@@ -0,0 +1,7 @@
+-- Id blocks for the pooled table generators (see IdBlocks). IF NOT EXISTS: nodes that ran before
+-- migrations existed created this table at startup. IdBlockInitializer seeds the segments.
+CREATE TABLE IF NOT EXISTS id_block (
+    segment VARCHAR(64) NOT NULL,
+    next_val BIGINT NOT NULL,
+    PRIMARY KEY (segment)
+) ENGINE=InnoDB;
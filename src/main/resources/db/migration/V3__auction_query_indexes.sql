@@ -0,0 +1,18 @@
+-- Indexes for the queries that run on every auction screen refresh. InnoDB appends the primary
+-- key to every secondary index, so these also cover the id lookups of the anti-joins.
+
+-- available players: player_level_id = ? AND is_active = true, then NOT EXISTS per player
+CREATE INDEX idx_player_level_active ON player (player_level_id, is_active);
+
+-- squads of a team season; the primary key (player_id, team_season_id) only serves player lookups
+CREATE INDEX idx_player_team_team_season ON player_team (team_season_id, player_id);
+
+-- unsold players of a season; the unique key (player_id, season_id) only serves player lookups
+CREATE INDEX idx_unsold_player_season ON unsold_player (season_id, player_id);
+
+-- team seasons of a season; the unique key (team_id, season_id) only serves team lookups
+CREATE INDEX idx_team_season_season ON team_season (season_id, team_id);
+
+-- rules of a season and context: season_rule by season, then rule by id filtered on context
+CREATE INDEX idx_season_rule_season ON season_rule (season_id, rule_id);
+CREATE INDEX idx_rule_context_active ON rule (context, is_active, priority);
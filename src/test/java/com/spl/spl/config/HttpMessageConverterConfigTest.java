@@ -0,0 +1,93 @@
+package com.spl.spl.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.spl.spl.entity.PlayerLevel;
+import com.spl.spl.views.Views;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+class HttpMessageConverterConfigTest {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        HttpMessageConverterConfig config = new HttpMessageConverterConfig();
+        mockMvc = MockMvcBuilders.standaloneSetup(new LevelController())
+                .setMessageConverters(new JacksonJsonHttpMessageConverter(), config.cborHttpMessageConverter(),
+                        config.smileHttpMessageConverter())
+                .build();
+    }
+
+    @Test
+    void acceptCbor_ReturnsCborWithTheSameViewAsJson() throws Exception {
+        JsonNode level = decode(CBOR, CBORMapper.builder().build());
+
+        assertEquals("l1", level.get("code").asString());
+        assertFalse(level.has("name"));
+    }
+
+    @Test
+    void acceptSmile_ReturnsSmileWithTheSameViewAsJson() throws Exception {
+        JsonNode level = decode(SMILE, SmileMapper.builder().build());
+
+        assertEquals("l1", level.get("code").asString());
+        assertFalse(level.has("name"));
+    }
+
+    @Test
+    void withoutBinaryAccept_KeepsReturningJson() throws Exception {
+        mockMvc.perform(get("/level"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value("l1"));
+    }
+
+    private JsonNode decode(MediaType mediaType, ObjectMapper mapper) throws Exception {
+        byte[] body = mockMvc.perform(get("/level").header(HttpHeaders.ACCEPT, mediaType.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+        return mapper.readTree(body);
+    }
+
+    @RestController
+    static class LevelController {
+
+        @JsonView(Views.Base.class)
+        @GetMapping("/level")
+        PlayerLevel level() {
+            PlayerLevel level = new PlayerLevel();
+            level.setId(1L);
+            level.setCode("l1");
+            level.setName("Marquee");
+            level.setBaseAmount(new BigDecimal("200000"));
+            return level;
+        }
+    }
+}
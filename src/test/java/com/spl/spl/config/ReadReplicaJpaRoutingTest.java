@@ -0,0 +1,77 @@
+package com.spl.spl.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spl.spl.entity.PlayerCategory;
+import com.spl.spl.repository.PlayerCategoryRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Boots JPA on the routing datasource with two embedded H2 databases and the lag guard
+ * registered on the JPA transaction manager by Boot, so repository calls go through the same
+ * path as in production. Each side holds a category naming itself.
+ */
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "spl.datasource.replica.jdbc-url=" + ReadReplicaJpaRoutingTest.REPLICA_URL,
+        "spl.datasource.replica.lag-window-millis=60000",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@ActiveProfiles("test")
+@Import({ ReadReplicaDataSourceConfig.class, ReplicaLagGuard.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadReplicaJpaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private PlayerCategoryRepository playerCategoryRepository;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @BeforeEach
+    void setUp() {
+        // Hibernate creates the schema on the primary only; the replica gets a copy by hand
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL));
+        replica.execute("CREATE TABLE IF NOT EXISTS player_category "
+                + "(code VARCHAR(255) PRIMARY KEY, name VARCHAR(255) NOT NULL, icon_path VARCHAR(255), is_active BOOLEAN)");
+        replica.update("MERGE INTO player_category (code, name) KEY (code) VALUES ('ORIGIN', 'replica')");
+        new JdbcTemplate(primaryDataSource)
+                .update("MERGE INTO player_category (code, name) KEY (code) VALUES ('ORIGIN', 'primary')");
+    }
+
+    @Test
+    void readOnlyRepositoryCall_ReadsReplica_UntilAWriteCommits() {
+        assertEquals(List.of("replica"), names());
+
+        PlayerCategory category = new PlayerCategory();
+        category.setCode("BAT");
+        category.setName("Batter");
+        playerCategoryRepository.save(category);
+
+        assertEquals(List.of("Batter", "primary"), names());
+    }
+
+    /* SimpleJpaRepository.findAll runs in its own @Transactional(readOnly = true) */
+    private List<String> names() {
+        return playerCategoryRepository.findAll().stream()
+                .map(PlayerCategory::getName)
+                .sorted()
+                .toList();
+    }
+}
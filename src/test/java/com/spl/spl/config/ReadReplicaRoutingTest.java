@@ -0,0 +1,124 @@
+package com.spl.spl.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Routes between two embedded H2 databases, each holding a row naming itself, so every read
+ * shows which side served it.
+ */
+class ReadReplicaRoutingTest {
+
+    private JdbcTemplate primary;
+    private ReplicaLagGuard guard;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = database("primary");
+        DataSource replicaDataSource = database("replica");
+        primary = new JdbcTemplate(primaryDataSource);
+
+        guard = new ReplicaLagGuard(60_000);
+        DataSource routing = ReadReplicaDataSourceConfig.routingDataSource(primaryDataSource, replicaDataSource, guard);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        transactionManager.addListener(guard);
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransaction_ReadsReplica() {
+        startRequest(new MockHttpServletRequest());
+
+        assertEquals("replica", readOnly.execute(status -> origin()));
+        assertEquals("primary", readWrite.execute(status -> origin()));
+        assertEquals("primary", origin());
+    }
+
+    @Test
+    void writeInRequest_PinsLaterReadsToPrimary_AndSetsCookie() {
+        MockHttpServletResponse response = startRequest(new MockHttpServletRequest());
+
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE origin SET writes = writes + 1"));
+
+        assertEquals("primary", readOnly.execute(status -> origin()));
+        assertEquals(1, primary.queryForObject("SELECT writes FROM origin", Integer.class));
+        assertTrue(response.getHeader(HttpHeaders.SET_COOKIE).startsWith(ReplicaLagGuard.COOKIE_NAME + "="));
+    }
+
+    @Test
+    void laterRequestOfWritingClient_ReadsPrimary_OtherClientsReadReplica() {
+        MockHttpServletResponse response = startRequest(new MockHttpServletRequest());
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE origin SET writes = writes + 1"));
+        Cookie cookie = response.getCookie(ReplicaLagGuard.COOKIE_NAME);
+
+        MockHttpServletRequest sameClient = new MockHttpServletRequest();
+        sameClient.setCookies(cookie);
+        startRequest(sameClient);
+        assertEquals("primary", readOnly.execute(status -> origin()));
+
+        startRequest(new MockHttpServletRequest());
+        assertEquals("replica", readOnly.execute(status -> origin()));
+    }
+
+    @Test
+    void sharedReadsAfterAnyWrite_ReadPrimary() {
+        startRequest(new MockHttpServletRequest());
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE origin SET writes = writes + 1"));
+
+        MockHttpServletRequest cacheLeader = new MockHttpServletRequest();
+        cacheLeader.setAttribute(ReplicaLagGuard.SHARED_READ_ATTRIBUTE, Boolean.TRUE);
+        startRequest(cacheLeader);
+        assertEquals("primary", readOnly.execute(status -> origin()));
+
+        RequestContextHolder.resetRequestAttributes();
+        assertEquals("primary", readOnly.execute(status -> origin()));
+    }
+
+    private String origin() {
+        return jdbcTemplate.queryForObject("SELECT name FROM origin", String.class);
+    }
+
+    private MockHttpServletResponse startRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + System.nanoTime()
+                + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE origin (name VARCHAR(16), writes INT)");
+        template.update("INSERT INTO origin (name, writes) VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
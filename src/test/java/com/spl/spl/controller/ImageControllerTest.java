@@ -0,0 +1,97 @@
+package com.spl.spl.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.spl.spl.service.ImageFileService;
+
+class ImageControllerTest {
+
+    private static final String HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String IMAGE = "/api/images/players/" + HASH + ".png";
+    private static final String ETAG = "\"" + HASH + "\"";
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+
+    @TempDir
+    Path root;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(root.resolve("players"));
+        Files.writeString(root.resolve("players/" + HASH + ".png"), "0123456789");
+        mockMvc = MockMvcBuilders.standaloneSetup(new ImageController(new ImageFileService(root, 1024))).build();
+    }
+
+    @Test
+    void getImage_WithoutRange_ReturnsWholeFile() throws Exception {
+        mockMvc.perform(get(IMAGE))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void getImage_WithSingleRange_ReturnsPartialContent() throws Exception {
+        mockMvc.perform(get(IMAGE).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    void getImage_WithRangePastEnd_ReturnsRangeNotSatisfiable() throws Exception {
+        mockMvc.perform(get(IMAGE).header(HttpHeaders.RANGE, "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getImage_WithIfRange_HonoursRangeOnlyForCurrentEtag() throws Exception {
+        mockMvc.perform(get(IMAGE).header(HttpHeaders.RANGE, "bytes=2-5").header(HttpHeaders.IF_RANGE, ETAG))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("2345"));
+
+        mockMvc.perform(get(IMAGE).header(HttpHeaders.RANGE, "bytes=2-5").header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void getImage_WithSendfileSupport_LeavesBodyToContainer() throws Exception {
+        mockMvc.perform(get(IMAGE).header(HttpHeaders.RANGE, "bytes=2-5").requestAttr(SENDFILE_SUPPORTED, true))
+                .andExpect(status().isPartialContent())
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.filename",
+                        root.resolve("players/" + HASH + ".png").toAbsolutePath().normalize().toString()))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.start", 2L))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.end", 6L))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getImage_WithMatchingEtag_ReturnsNotModified() throws Exception {
+        mockMvc.perform(get(IMAGE).header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+}
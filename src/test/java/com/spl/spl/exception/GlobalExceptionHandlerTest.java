@@ -7,11 +7,13 @@ import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.context.request.WebRequest;
 
 import com.spl.spl.dto.ErrorResponse;
+import com.spl.spl.dto.ReportJobStatus;
 
 class GlobalExceptionHandlerTest {
 
@@ -95,4 +97,37 @@ class GlobalExceptionHandlerTest {
         assertEquals("Player already exists with identifier: P001", 
                 response.getBody().getError().getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testHandleReportQueueFullException() {
+        // Given
+        ReportQueueFullException exception = new ReportQueueFullException(20, 30);
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler
+                .handleReportQueueFullException(exception, webRequest);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("30", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+        assertEquals("REPORT_QUEUE_FULL", response.getBody().getError().getCode());
+        assertEquals(503, response.getBody().getError().getStatus());
+    }
+
+    @Test
+    void testHandleReportJobNotReadyException() {
+        // Given
+        ReportJobNotReadyException exception = new ReportJobNotReadyException("job-1", ReportJobStatus.RUNNING);
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler
+                .handleReportJobNotReadyException(exception, webRequest);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("REPORT_JOB_NOT_READY", response.getBody().getError().getCode());
+        assertEquals("Report job job-1 is RUNNING", response.getBody().getError().getMessage());
+    }
+}
@@ -0,0 +1,220 @@
+package com.spl.spl.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+/**
+ * Runs the Flyway migrations against a real MySQL, calls the repository methods behind the hot
+ * auction reads and EXPLAINs the SQL Hibernate generated for them, captured by a
+ * {@link StatementInspector}, to check it is planned on the V3 indexes instead of full scans.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.spl.spl.repository.QueryPlanTest$CapturingInspector"
+})
+class QueryPlanTest {
+
+    @Container
+    private static final MySQLContainer MYSQL = new MySQLContainer("mysql:8.4");
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    private static Connection connection;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlayerTeamRepository playerTeamRepository;
+
+    @Autowired
+    private TeamSeasonRepository teamSeasonRepository;
+
+    @Autowired
+    private SeasonRuleRepository seasonRuleRepository;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @BeforeAll
+    static void migrateAndLoad() throws SQLException {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .load()
+                .migrate();
+        connection = DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET SESSION cte_max_recursion_depth = 10000");
+            statement.execute("INSERT INTO player_level (id, code) VALUES (1, 'a'), (2, 'b'), (3, 'c'), (4, 'd'), (5, 'e')");
+            statement.execute("INSERT INTO player_category (code, name) VALUES ('BAT', 'Batter'), ('BOWL', 'Bowler')");
+            statement.execute("INSERT INTO season (id, code, year) VALUES (1, 'S1', 2024), (2, 'S2', 2025)");
+            statement.execute("""
+                    INSERT INTO player (id, code, name, is_active, player_level_id, category_code)
+                    WITH RECURSIVE n (i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM n WHERE i < 5000)
+                    SELECT i, CONCAT('pl', i), CONCAT('Player ', i), i % 10 <> 0, i % 5 + 1, IF(i % 2 = 0, 'BAT', 'BOWL')
+                    FROM n
+                    """);
+            statement.execute("""
+                    INSERT INTO team (id, code, name)
+                    WITH RECURSIVE n (i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM n WHERE i < 12)
+                    SELECT i, CONCAT('T', i), CONCAT('Team ', i) FROM n
+                    """);
+            statement.execute("""
+                    INSERT INTO team_season (id, code, team_id, season_id)
+                    SELECT t.id + (s.id - 1) * 12, CONCAT(t.code, s.code), t.id, s.id FROM team t CROSS JOIN season s
+                    """);
+            statement.execute("""
+                    INSERT INTO player_team (player_id, team_season_id, code, sold_amount)
+                    SELECT p.id, p.id % 24 + 1, CONCAT(p.code, '-', p.id % 24 + 1), 100000 FROM player p WHERE p.id % 4 = 0
+                    """);
+            statement.execute("""
+                    INSERT INTO unsold_player (player_id, season_id)
+                    SELECT p.id, p.id % 2 + 1 FROM player p WHERE p.id % 7 = 0
+                    """);
+            statement.execute("""
+                    INSERT INTO rule (id, context, rule_statement, is_active, priority, created_at)
+                    WITH RECURSIVE n (i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM n WHERE i < 400)
+                    SELECT i, CONCAT('CONTEXT_', i % 20), 'true', i % 3 <> 0, i % 10, NOW() FROM n
+                    """);
+            statement.execute("""
+                    INSERT INTO season_rule (season_id, rule_id, code)
+                    SELECT s.id, r.id, CONCAT(s.code, '-', r.id) FROM season s CROSS JOIN rule r WHERE r.id % 2 = s.id - 1
+                    """);
+            statement.execute("ANALYZE TABLE player, team_season, player_team, unsold_player, rule, season_rule");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @BeforeEach
+    void clearStatements() {
+        STATEMENTS.clear();
+    }
+
+    @Test
+    void availablePlayers_ScanLevelIndex_AndProbeAntiJoins() throws SQLException {
+        playerRepository.findPlayersNotInTeamByLevel(1L, 2L);
+
+        // parameters in the order the query uses them: level, then season for each anti-join
+        List<Map<String, String>> plan = explain(generatedSql(), 2L, 1L, 1L);
+
+        assertUsesKey(plan, "idx_player_level_active");
+        assertNoFullScan(plan);
+    }
+
+    @Test
+    void unsoldPlayers_UseSeasonIndex() throws SQLException {
+        playerRepository.findUnsoldPlayers(1L);
+
+        List<Map<String, String>> plan = explain(generatedSql(), 1L);
+
+        assertUsesKey(plan, "idx_unsold_player_season");
+        assertNoFullScan(plan);
+    }
+
+    @Test
+    void squadOfTeamSeason_UsesTeamSeasonIndex() throws SQLException {
+        playerTeamRepository.findByTeamSeasonId(5L);
+
+        assertUsesKey(explain(generatedSql(), 5L), "idx_player_team_team_season");
+    }
+
+    @Test
+    void teamSeasonsOfSeason_UseSeasonIndex() throws SQLException {
+        teamSeasonRepository.findBySeasonId(1L);
+
+        assertUsesKey(explain(generatedSql(), 1L), "idx_team_season_season");
+    }
+
+    @Test
+    void seasonRulesOfContext_AvoidFullScans() throws SQLException {
+        seasonRuleRepository.findBySeasonIdAndRuleContext(1L, "CONTEXT_3");
+
+        assertNoFullScan(explain(generatedSql(), 1L, "CONTEXT_3"));
+    }
+
+    /* the query the repository call sent; later statements only fetch associations */
+    private String generatedSql() {
+        assertTrue(!STATEMENTS.isEmpty(), "The repository call sent no statement");
+        return STATEMENTS.get(0);
+    }
+
+    private List<Map<String, String>> explain(String sql, Object... parameters) throws SQLException {
+        List<Map<String, String>> rows = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    Map<String, String> row = new HashMap<>();
+                    for (int i = 1; i <= resultSet.getMetaData().getColumnCount(); i++) {
+                        row.put(resultSet.getMetaData().getColumnLabel(i), resultSet.getString(i));
+                    }
+                    rows.add(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private void assertUsesKey(List<Map<String, String>> plan, String key) {
+        assertTrue(plan.stream().anyMatch(row -> key.equals(row.get("key"))), () -> key + " not used in " + plan);
+    }
+
+    private void assertNoFullScan(List<Map<String, String>> plan) {
+        assertTrue(plan.stream().noneMatch(row -> "ALL".equals(row.get("type"))), () -> "Full scan in " + plan);
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.spl.spl.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.spl.spl.entity.Player;
+import com.spl.spl.entity.PlayerLevel;
+import com.spl.spl.entity.Season;
+import com.spl.spl.entity.Team;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void lazyPlayerLevel_IsLoadedOnce_ThenServedFromCache() {
+        PlayerLevel level = new PlayerLevel();
+        level.setCode("l" + System.nanoTime());
+        level.setBaseAmount(BigDecimal.TEN);
+        entityManager.persist(level);
+        Player player = new Player();
+        player.setName("Asha");
+        player.setPlayerLevel(level);
+        entityManager.persist(player);
+
+        long first = countStatements(() -> entityManager.find(Player.class, player.getId()).getPlayerLevel().getCode());
+        long second = countStatements(() -> entityManager.find(Player.class, player.getId()).getPlayerLevel().getCode());
+
+        assertEquals(2, first);
+        assertEquals(1, second);
+    }
+
+    @Test
+    void findCachedByCode_ResolvesCodeAndEntityFromCache() {
+        Team team = new Team();
+        team.setCode("T" + System.nanoTime());
+        team.setName("Strikers");
+        entityManager.persist(team);
+        Season season = new Season();
+        season.setYear(2030);
+        entityManager.persist(season);
+        entityManager.flush();
+
+        long first = countStatements(() -> teamRepository.findCachedByCode(team.getCode()).orElseThrow().getName());
+        long second = countStatements(() -> teamRepository.findCachedByCode(team.getCode()).orElseThrow().getName());
+        long generatedCode = countStatements(
+                () -> seasonRepository.findCachedByCode("S" + season.getId()).orElseThrow().getYear());
+
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertEquals(2030, seasonRepository.findCachedByCode("S" + season.getId()).orElseThrow().getYear());
+        assertEquals(1, generatedCode);
+        assertTrue(teamRepository.findCachedByCode("missing").isEmpty());
+    }
+
+    @Test
+    void findByCode_StaysADerivedQuery() {
+        Team team = new Team();
+        team.setCode("T" + System.nanoTime());
+        team.setName("Strikers");
+        entityManager.persist(team);
+
+        assertEquals("Strikers", teamRepository.findByCode(team.getCode()).getName());
+        assertNull(teamRepository.findByCode("missing"));
+    }
+
+    private long countStatements(Runnable loader) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        loader.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
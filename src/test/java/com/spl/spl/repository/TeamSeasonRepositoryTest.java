@@ -0,0 +1,168 @@
+package com.spl.spl.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.spl.spl.dto.ItemResponse;
+import com.spl.spl.dto.ItemResponse.ItemData;
+import com.spl.spl.dto.ItemsResponse;
+import com.spl.spl.dto.ItemsResponse.ItemsData;
+import com.spl.spl.entity.Player;
+import com.spl.spl.entity.PlayerCategory;
+import com.spl.spl.entity.PlayerLevel;
+import com.spl.spl.entity.PlayerTeam;
+import com.spl.spl.entity.Season;
+import com.spl.spl.entity.Team;
+import com.spl.spl.entity.TeamSeason;
+import com.spl.spl.entity.TeamSeasonPlayerLevel;
+import com.spl.spl.views.Views;
+
+import jakarta.persistence.EntityManager;
+import tools.jackson.databind.json.JsonMapper;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class TeamSeasonRepositoryTest {
+
+    // squad join + level summaries batch + any player levels not already loaded by the squad
+    private static final long MAX_DETAIL_QUERIES = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TeamSeasonRepository teamSeasonRepository;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private Season season;
+    private PlayerCategory category;
+    private List<PlayerLevel> levels;
+
+    @BeforeEach
+    void setUp() {
+        season = new Season();
+        season.setCode("S1");
+        season.setYear(2024);
+        season.setBudgetLimit(new BigDecimal("1000"));
+        entityManager.persist(season);
+
+        category = new PlayerCategory();
+        category.setCode("BAT");
+        category.setName("Batsman");
+        entityManager.persist(category);
+
+        levels = List.of(level("l1"), level("l2"), level("l3"));
+    }
+
+    @Test
+    void findWithLevelsBySeasonId_ShouldRenderListViewWithOneQueryRegardlessOfTeamCount() {
+        createTeamSeasons(2, 2);
+        long twoTeams = countStatementsRendering(() -> new ItemsResponse<>(
+                new ItemsData<>(teamSeasonRepository.findWithLevelsBySeasonId(season.getId()))),
+                Views.TeamSeasonsView.class);
+
+        createTeamSeasons(6, 2);
+        long eightTeams = countStatementsRendering(() -> new ItemsResponse<>(
+                new ItemsData<>(teamSeasonRepository.findWithLevelsBySeasonId(season.getId()))),
+                Views.TeamSeasonsView.class);
+
+        assertEquals(1, twoTeams);
+        assertEquals(1, eightTeams);
+    }
+
+    @Test
+    void findDetailedById_ShouldRenderDetailViewWithConstantQueriesRegardlessOfSquadSize() {
+        TeamSeason smallSquad = createTeamSeasons(1, 1).get(0);
+        TeamSeason largeSquad = createTeamSeasons(1, 8).get(0);
+
+        long small = countStatementsRendering(() -> new ItemResponse<>(
+                new ItemData<>(teamSeasonRepository.findDetailedById(smallSquad.getId()).orElseThrow())),
+                Views.TeamSeasonView.class);
+        long large = countStatementsRendering(() -> new ItemResponse<>(
+                new ItemData<>(teamSeasonRepository.findDetailedById(largeSquad.getId()).orElseThrow())),
+                Views.TeamSeasonView.class);
+
+        assertTrue(small <= MAX_DETAIL_QUERIES, "detail view issued " + small + " queries");
+        assertTrue(large <= MAX_DETAIL_QUERIES, "detail view issued " + large + " queries");
+    }
+
+    private long countStatementsRendering(Supplier<Object> loader, Class<?> view) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        jsonMapper.writerWithView(view).writeValueAsString(loader.get());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<TeamSeason> createTeamSeasons(int teams, int playersPerTeam) {
+        List<TeamSeason> created = new ArrayList<>();
+        for (int t = 0; t < teams; t++) {
+            Team team = new Team();
+            team.setCode("T" + System.nanoTime());
+            team.setName("Team " + t);
+            entityManager.persist(team);
+
+            TeamSeason teamSeason = new TeamSeason();
+            teamSeason.setCode(team.getCode() + season.getCode());
+            teamSeason.setTeam(team);
+            teamSeason.setSeason(season);
+            teamSeason.setTotalAmountSpent(BigDecimal.ZERO);
+            entityManager.persist(teamSeason);
+
+            for (PlayerLevel level : levels) {
+                TeamSeasonPlayerLevel tspl = new TeamSeasonPlayerLevel();
+                tspl.setTeamSeason(teamSeason);
+                tspl.setPlayerLevel(level);
+                tspl.setTotalAmountSpent(BigDecimal.ZERO);
+                tspl.setNextPlayerBudget(new BigDecimal("100"));
+                entityManager.persist(tspl);
+            }
+
+            for (int p = 0; p < playersPerTeam; p++) {
+                Player player = new Player();
+                player.setCode("pl" + System.nanoTime());
+                player.setName("Player " + p);
+                player.setPlayerLevel(levels.get(p % levels.size()));
+                player.setCategory(category);
+                entityManager.persist(player);
+
+                PlayerTeam playerTeam = new PlayerTeam();
+                playerTeam.setCode(player.getCode() + teamSeason.getCode());
+                playerTeam.setPlayer(player);
+                playerTeam.setTeamSeason(teamSeason);
+                playerTeam.setSoldAmount(new BigDecimal("10"));
+                playerTeam.setIsManager(false);
+                entityManager.persist(playerTeam);
+            }
+            created.add(teamSeason);
+        }
+        return created;
+    }
+
+    private PlayerLevel level(String code) {
+        PlayerLevel level = new PlayerLevel();
+        level.setCode(code);
+        level.setName(code.toUpperCase());
+        level.setBaseAmount(BigDecimal.TEN);
+        entityManager.persist(level);
+        return level;
+    }
+}
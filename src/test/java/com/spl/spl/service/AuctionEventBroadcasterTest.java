@@ -0,0 +1,157 @@
+package com.spl.spl.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.spl.spl.event.SeasonChangeType;
+import com.spl.spl.event.SeasonChangedEvent;
+
+class AuctionEventBroadcasterTest {
+
+    private static final Long SEASON_ID = 1L;
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final AuctionEventBroadcaster broadcaster = new AuctionEventBroadcaster(2, 60_000) {
+        @Override
+        SseEmitter createEmitter() {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            return emitter;
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.release.countDown());
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void onSeasonChanged_SendsEventsInVersionOrder() throws InterruptedException {
+        broadcaster.subscribe(SEASON_ID);
+        RecordingEmitter emitter = emitters.get(0);
+        emitter.release.countDown();
+
+        publish(1);
+        publish(2);
+
+        assertTrue(emitter.awaitSent(2));
+        assertEquals(List.of(1L, 2L), emitter.sent);
+    }
+
+    @Test
+    void onSeasonChanged_DropsOldestPendingEventsOfASlowSubscriber_WithoutHoldingBackOthers()
+            throws InterruptedException {
+        broadcaster.subscribe(SEASON_ID);
+        broadcaster.subscribe(SEASON_ID);
+        RecordingEmitter slow = emitters.get(0);
+        RecordingEmitter fast = emitters.get(1);
+        fast.release.countDown();
+
+        publish(1);
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+        for (int version = 2; version <= 5; version++) {
+            // the other subscriber keeps up with every event while this one is stalled
+            assertTrue(fast.awaitSent(version - 1));
+            publish(version);
+        }
+        assertTrue(fast.awaitSent(5));
+        slow.release.countDown();
+
+        // the buffer holds two events: 2 and 3 were dropped while 1 was being sent
+        assertTrue(slow.awaitSent(3));
+        assertEquals(List.of(1L, 4L, 5L), slow.sent);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), fast.sent);
+    }
+
+    @Test
+    void onSeasonChanged_RemovesSubscriberWhoseStreamFailed() throws InterruptedException {
+        broadcaster.subscribe(SEASON_ID);
+        broadcaster.subscribe(SEASON_ID);
+        RecordingEmitter broken = emitters.get(0);
+        broken.failure = new IOException("Broken pipe");
+        emitters.forEach(emitter -> emitter.release.countDown());
+
+        publish(1);
+
+        assertTrue(emitters.get(1).awaitSent(1));
+        for (int i = 0; i < 50 && broadcaster.subscriberCount(SEASON_ID) > 1; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, broadcaster.subscriberCount(SEASON_ID));
+        publish(2);
+        assertTrue(emitters.get(1).awaitSent(2));
+        assertEquals(List.of(), broken.sent);
+    }
+
+    @Test
+    void onSeasonChanged_IgnoresRosterChangesAndOtherSeasons() throws InterruptedException {
+        broadcaster.subscribe(SEASON_ID);
+        RecordingEmitter emitter = emitters.get(0);
+        emitter.release.countDown();
+
+        broadcaster.onSeasonChanged(SeasonChangedEvent.builder().type(SeasonChangeType.ROSTER_UPDATED).build());
+        broadcaster.onSeasonChanged(SeasonChangedEvent.builder()
+                .seasonId(2L).version(7).type(SeasonChangeType.PLAYER_SOLD).build());
+        publish(1);
+
+        assertTrue(emitter.awaitSent(1));
+        assertEquals(List.of(1L), emitter.sent);
+        assertEquals(0, broadcaster.subscriberCount(2L));
+    }
+
+    private void publish(long version) {
+        broadcaster.onSeasonChanged(SeasonChangedEvent.builder()
+                .seasonId(SEASON_ID)
+                .version(version)
+                .type(SeasonChangeType.PLAYER_SOLD)
+                .build());
+    }
+
+    /* records the id of every event sent; send blocks until released, like a stalled client */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Long> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile IOException failure;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            Matcher id = EVENT_ID.matcher(builder.build().iterator().next().getData().toString());
+            if (id.find()) {
+                sent.add(Long.valueOf(id.group(1)));
+            }
+        }
+
+        boolean awaitSent(int count) throws InterruptedException {
+            for (int i = 0; i < 250 && sent.size() < count; i++) {
+                Thread.sleep(20);
+            }
+            return sent.size() >= count;
+        }
+    }
+}
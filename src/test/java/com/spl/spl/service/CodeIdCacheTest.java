@@ -0,0 +1,104 @@
+package com.spl.spl.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.spl.spl.dto.PlayerTeamChangeDto;
+import com.spl.spl.entity.Player;
+import com.spl.spl.entity.PlayerTeam;
+import com.spl.spl.event.SeasonChangedEvent;
+
+class CodeIdCacheTest {
+
+    private final CodeIdCache cache = new CodeIdCache(2);
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @Test
+    void resolve_QueriesEachKnownCodeOnce_AndNeverRemembersUnknownCodes() {
+        Function<String, Optional<Long>> lookup = lookup(Map.of("pl1", 1L));
+
+        assertEquals(Optional.of(1L), cache.resolve(Player.class, "pl1", lookup));
+        assertEquals(Optional.of(1L), cache.resolve(Player.class, "pl1", lookup));
+        assertTrue(cache.resolve(Player.class, "pl9", lookup).isEmpty());
+        assertTrue(cache.resolve(Player.class, "pl9", lookup).isEmpty());
+
+        assertEquals(3, queries.get());
+    }
+
+    @Test
+    void resolve_KeepsOnlyTheMostRecentlyUsedCodesPerType() {
+        Function<String, Optional<Long>> lookup = lookup(Map.of("pl1", 1L, "pl2", 2L, "pl3", 3L));
+
+        cache.resolve(Player.class, "pl1", lookup);
+        cache.resolve(Player.class, "pl2", lookup);
+        cache.resolve(Player.class, "pl1", lookup);
+        cache.resolve(Player.class, "pl3", lookup);
+        cache.resolve(PlayerTeam.class, "pl1", lookup);
+        queries.set(0);
+
+        cache.resolve(Player.class, "pl1", lookup);
+        cache.resolve(Player.class, "pl3", lookup);
+        cache.resolve(Player.class, "pl2", lookup);
+
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    void find_ForgetsIdsWhoseRowIsGone() {
+        Function<String, Optional<Long>> lookup = lookup(Map.of("pl1", 1L));
+        cache.resolve(Player.class, "pl1", lookup);
+
+        assertTrue(cache.find(Player.class, "pl1", lookup, id -> Optional.<Player>empty()).isEmpty());
+        cache.resolve(Player.class, "pl1", lookup);
+
+        // the stale id is retried once by code, then not remembered
+        assertEquals(3, queries.get());
+    }
+
+    @Test
+    void find_RetriesWithTheCurrentIdOfACodeThatMoved() {
+        cache.resolve(Player.class, "pl1", lookup(Map.of("pl1", 1L)));
+        Player moved = new Player();
+        moved.setId(2L);
+        queries.set(0);
+
+        Optional<Player> found = cache.find(Player.class, "pl1", lookup(Map.of("pl1", 2L)),
+                id -> id == 2L ? Optional.of(moved) : Optional.empty());
+
+        assertEquals(Optional.of(moved), found);
+        assertEquals(Optional.of(2L), cache.resolve(Player.class, "pl1", lookup(Map.of())));
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    void onSeasonChanged_ForgetsDeletedPlayerTeams() {
+        Function<String, Optional<Long>> lookup = lookup(Map.of("pl1T1S1", 1L, "pl2T1S1", 2L));
+        cache.resolve(PlayerTeam.class, "pl1T1S1", lookup);
+        cache.resolve(PlayerTeam.class, "pl2T1S1", lookup);
+
+        cache.onSeasonChanged(SeasonChangedEvent.builder()
+                .playerTeams(List.of(PlayerTeamChangeDto.deleted("pl1T1S1"),
+                        PlayerTeamChangeDto.builder().code("pl2T1S1").build()))
+                .build());
+        queries.set(0);
+        cache.resolve(PlayerTeam.class, "pl1T1S1", lookup);
+        cache.resolve(PlayerTeam.class, "pl2T1S1", lookup);
+
+        assertEquals(1, queries.get());
+    }
+
+    private Function<String, Optional<Long>> lookup(Map<String, Long> ids) {
+        return code -> {
+            queries.incrementAndGet();
+            return Optional.ofNullable(ids.get(code));
+        };
+    }
+}
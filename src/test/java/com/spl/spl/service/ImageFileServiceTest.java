@@ -0,0 +1,86 @@
+package com.spl.spl.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.spl.spl.exception.ResourceNotFoundException;
+import com.spl.spl.service.ImageFileService.ImageFile;
+
+class ImageFileServiceTest {
+
+    private static final String HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    @TempDir
+    Path root;
+
+    private ImageFileService imageFileService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(root.resolve("players"));
+        Files.writeString(root.resolve("players/" + HASH + "-thumb.jpg"), "thumbnail");
+        Files.writeString(root.resolve("players/" + HASH + ".png"), "0123456789");
+        Files.writeString(root.resolve("logo.png"), "logo");
+        Files.writeString(root.resolve("notes.txt"), "not an image");
+        imageFileService = new ImageFileService(root.resolve("players").resolve(".."), 1024);
+    }
+
+    @Test
+    void resolve_ContentHashedFile_IsImmutableWithHashAsEtag() {
+        ImageFile image = imageFileService.resolve("/players/" + HASH + ".png");
+
+        assertTrue(image.immutable());
+        assertEquals("\"" + HASH + "\"", image.etag());
+        assertEquals(10, image.length());
+        assertEquals("image/png", image.contentType().toString());
+    }
+
+    @Test
+    void resolve_OtherFile_UsesModificationTimeAndSize() {
+        ImageFile image = imageFileService.resolve("logo.png");
+
+        assertFalse(image.immutable());
+        assertTrue(image.etag().endsWith("-4\""));
+    }
+
+    @Test
+    void resolve_OutsideRootOrNotImage_ThrowsNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> imageFileService.resolve("../secret.png"));
+        assertThrows(ResourceNotFoundException.class, () -> imageFileService.resolve("notes.txt"));
+        assertThrows(ResourceNotFoundException.class, () -> imageFileService.resolve("players/missing.png"));
+    }
+
+    @Test
+    void cachedThumbnail_ThumbnailIsKeptInMemory_OtherImagesAreNot() {
+        ImageFile thumbnail = imageFileService.resolve("players/" + HASH + "-thumb.jpg");
+
+        byte[] first = imageFileService.cachedThumbnail(thumbnail);
+        assertArrayEquals("thumbnail".getBytes(StandardCharsets.UTF_8), first);
+        assertSame(first, imageFileService.cachedThumbnail(thumbnail));
+        assertNull(imageFileService.cachedThumbnail(imageFileService.resolve("logo.png")));
+    }
+
+    @Test
+    void transferTo_CopiesRequestedRange() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        imageFileService.transferTo(imageFileService.resolve("players/" + HASH + ".png"), 2, 5, out);
+
+        assertEquals("23456", out.toString(StandardCharsets.UTF_8));
+    }
+}
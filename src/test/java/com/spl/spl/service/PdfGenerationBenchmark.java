@@ -0,0 +1,116 @@
+package com.spl.spl.service;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.spl.spl.entity.Player;
+import com.spl.spl.entity.PlayerCategory;
+import com.spl.spl.entity.PlayerLevel;
+import com.spl.spl.entity.PlayerTeam;
+import com.spl.spl.entity.Season;
+import com.spl.spl.entity.Team;
+import com.spl.spl.entity.TeamSeason;
+import com.spl.spl.entity.TeamSeasonPlayerLevel;
+
+/**
+ * Squad PDF throughput in documents per second. The single thread score is the per-core rate;
+ * divide the all-threads score by the number of cores to see how well rendering scales.
+ * Not a unit test: run {@link #main} or the JMH runner against the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfGenerationBenchmark {
+
+    private static final String[] LEVELS = {"a", "b", "c", "d", "e"};
+    private static final int PLAYERS_PER_LEVEL = 5;
+
+    private final PdfGenerationService pdfGenerationService = new PdfGenerationService();
+    private TeamSeason teamSeason;
+
+    @Setup
+    public void setUp() {
+        Season season = new Season();
+        season.setCode("S2025");
+        season.setBudgetLimit(new BigDecimal("100000000"));
+
+        Team team = new Team();
+        team.setName("Strikers");
+
+        PlayerCategory category = new PlayerCategory();
+        category.setName("All Rounder");
+
+        teamSeason = new TeamSeason();
+        teamSeason.setTeam(team);
+        teamSeason.setSeason(season);
+        teamSeason.setTotalAmountSpent(new BigDecimal("87500000"));
+
+        List<PlayerTeam> playerTeams = new ArrayList<>();
+        List<TeamSeasonPlayerLevel> levels = new ArrayList<>();
+        playerTeams.add(playerTeam("Manager", null, category, true, "0"));
+        for (String code : LEVELS) {
+            PlayerLevel playerLevel = new PlayerLevel();
+            playerLevel.setCode(code);
+            TeamSeasonPlayerLevel level = new TeamSeasonPlayerLevel();
+            level.setPlayerLevel(playerLevel);
+            level.setTotalAmountSpent(new BigDecimal("17500000"));
+            levels.add(level);
+            for (int i = 0; i < PLAYERS_PER_LEVEL; i++) {
+                playerTeams.add(playerTeam("Player " + code + i, playerLevel, category, false, "3500000"));
+            }
+        }
+        teamSeason.setPlayerTeams(playerTeams);
+        teamSeason.setTeamSeasonPlayerLevels(levels);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void squadPdfSingleThread() {
+        pdfGenerationService.writeTeamSquadPdf(teamSeason, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void squadPdfAllThreads() {
+        pdfGenerationService.writeTeamSquadPdf(teamSeason, OutputStream.nullOutputStream());
+    }
+
+    private PlayerTeam playerTeam(String name, PlayerLevel level, PlayerCategory category, boolean manager,
+            String amount) {
+        Player player = new Player();
+        player.setName(name);
+        player.setPlayerLevel(level);
+        player.setCategory(category);
+
+        PlayerTeam playerTeam = new PlayerTeam();
+        playerTeam.setPlayer(player);
+        playerTeam.setIsManager(manager);
+        playerTeam.setSoldAmount(new BigDecimal(amount));
+        return playerTeam;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PdfGenerationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,151 @@
+package com.spl.spl.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.spl.spl.entity.Player;
+import com.spl.spl.entity.PlayerCategory;
+import com.spl.spl.entity.PlayerLevel;
+import com.spl.spl.entity.PlayerTeam;
+import com.spl.spl.entity.Season;
+import com.spl.spl.entity.Team;
+import com.spl.spl.entity.TeamSeason;
+import com.spl.spl.entity.TeamSeasonPlayerLevel;
+
+class PdfGenerationServiceTest {
+
+    private final PdfGenerationService pdfGenerationService = new PdfGenerationService();
+
+    @Test
+    void formatAmount_GroupsRupeesAndRoundsLakhsAndCroresHalfUp() {
+        assertEquals("₹0", pdfGenerationService.formatAmount(null));
+        assertEquals("₹950", pdfGenerationService.formatAmount(new BigDecimal("950.75")));
+        assertEquals("₹99,999", pdfGenerationService.formatAmount(new BigDecimal("99999")));
+        assertEquals("₹1.0L", pdfGenerationService.formatAmount(new BigDecimal("100000")));
+        assertEquals("₹1.2L", pdfGenerationService.formatAmount(new BigDecimal("115000")));
+        assertEquals("₹99.9L", pdfGenerationService.formatAmount(new BigDecimal("9994999")));
+        assertEquals("₹1.0Cr", pdfGenerationService.formatAmount(new BigDecimal("10000000")));
+        assertEquals("₹8.8Cr", pdfGenerationService.formatAmount(new BigDecimal("87500000")));
+        assertEquals("₹1234.6Cr", pdfGenerationService.formatAmount(new BigDecimal("12345600000")));
+    }
+
+    @Test
+    void formatAmount_MatchesTheStringFormatItReplaced() {
+        for (long value = 0; value < 200_000_000L; value += value < 2_000_000 ? 500 : 250_000) {
+            assertEquals(previousFormat(value), pdfGenerationService.formatAmount(BigDecimal.valueOf(value)),
+                    "amount " + value);
+        }
+    }
+
+    @Test
+    void writeTeamSquadPdf_ListsEachPlayerUnderItsLevel_AndTheManagerOnce() throws IOException {
+        PlayerLevel l1 = level("l1");
+        PlayerLevel l2 = level("l2");
+        TeamSeason teamSeason = teamSeason(List.of(l1, l2), List.of(
+                playerTeam("Bravo", l2, false),
+                playerTeam("Coach", l1, true),
+                playerTeam("Alpha", l1, false),
+                playerTeam("Delta", l2, false),
+                playerTeam("Charlie", l1, false)));
+
+        String text = text(pdfGenerationService.generateTeamSquadPdf(teamSeason));
+
+        int l1Section = text.indexOf("L1 Level Players");
+        int l2Section = text.indexOf("L2 Level Players");
+        assertTrue(text.indexOf("Team Manager") < text.indexOf("Coach"));
+        assertTrue(text.indexOf("Coach") < l1Section);
+        assertTrue(l1Section < text.indexOf("Alpha") && text.indexOf("Alpha") < text.indexOf("Charlie"));
+        assertTrue(text.indexOf("Charlie") < l2Section);
+        assertTrue(l2Section < text.indexOf("Bravo") && text.indexOf("Bravo") < text.indexOf("Delta"));
+        assertEquals(text.indexOf("Coach"), text.lastIndexOf("Coach"));
+    }
+
+    @Test
+    void writeTeamSquadPdf_SkipsLevelsWithoutPlayers() throws IOException {
+        PlayerLevel l1 = level("l1");
+        PlayerLevel l2 = level("l2");
+        TeamSeason teamSeason = teamSeason(List.of(l1, l2), List.of(playerTeam("Alpha", l1, false)));
+
+        String text = text(pdfGenerationService.generateTeamSquadPdf(teamSeason));
+
+        assertTrue(text.contains("L1 Level Players"));
+        assertFalse(text.contains("L2 Level Players"));
+        assertFalse(text.contains("Team Manager"));
+    }
+
+    /* the formatting before the shared DecimalFormats */
+    private String previousFormat(long value) {
+        if (value >= 10000000) {
+            return "₹" + String.format("%.1f", value / 10000000.0) + "Cr";
+        } else if (value >= 100000) {
+            return "₹" + String.format("%.1f", value / 100000.0) + "L";
+        }
+        return "₹" + String.format("%,d", value);
+    }
+
+    private String text(byte[] pdf) throws IOException {
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            StringBuilder text = new StringBuilder();
+            for (int page = 1; page <= document.getNumberOfPages(); page++) {
+                text.append(PdfTextExtractor.getTextFromPage(document.getPage(page))).append('\n');
+            }
+            return text.toString();
+        }
+    }
+
+    private TeamSeason teamSeason(List<PlayerLevel> playerLevels, List<PlayerTeam> playerTeams) {
+        Season season = new Season();
+        season.setCode("S2025");
+        season.setBudgetLimit(new BigDecimal("100000000"));
+        Team team = new Team();
+        team.setName("Strikers");
+
+        TeamSeason teamSeason = new TeamSeason();
+        teamSeason.setTeam(team);
+        teamSeason.setSeason(season);
+        teamSeason.setTotalAmountSpent(new BigDecimal("500000"));
+        List<TeamSeasonPlayerLevel> levels = new ArrayList<>();
+        for (PlayerLevel playerLevel : playerLevels) {
+            TeamSeasonPlayerLevel level = new TeamSeasonPlayerLevel();
+            level.setPlayerLevel(playerLevel);
+            level.setTotalAmountSpent(new BigDecimal("250000"));
+            levels.add(level);
+        }
+        teamSeason.setTeamSeasonPlayerLevels(levels);
+        teamSeason.setPlayerTeams(new ArrayList<>(playerTeams));
+        return teamSeason;
+    }
+
+    private PlayerLevel level(String code) {
+        PlayerLevel level = new PlayerLevel();
+        level.setCode(code);
+        return level;
+    }
+
+    private PlayerTeam playerTeam(String name, PlayerLevel level, boolean manager) {
+        PlayerCategory category = new PlayerCategory();
+        category.setName("Batsman");
+        Player player = new Player();
+        player.setName(name);
+        player.setPlayerLevel(level);
+        player.setCategory(category);
+
+        PlayerTeam playerTeam = new PlayerTeam();
+        playerTeam.setPlayer(player);
+        playerTeam.setIsManager(manager);
+        playerTeam.setSoldAmount(new BigDecimal("100000"));
+        return playerTeam;
+    }
+}
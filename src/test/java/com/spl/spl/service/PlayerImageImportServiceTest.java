@@ -0,0 +1,96 @@
+package com.spl.spl.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import com.spl.spl.dto.ImageImportReportDto;
+import com.spl.spl.dto.ImageImportResultDto;
+import com.spl.spl.dto.ImageImportStatus;
+
+class PlayerImageImportServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private ImageStorageService imageStorageService;
+    private PlayerService playerService;
+    private PlayerImageImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        imageStorageService = new ImageStorageService(directory, "images/", 1, 10);
+        playerService = mock(PlayerService.class);
+        importService = new PlayerImageImportService(imageStorageService, playerService, 100);
+        when(playerService.getPlayerCodes()).thenReturn(List.of("pl1", "pl2"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageStorageService.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importZip_MatchesEntriesToPlayerCodes_AndUpdatesInOneCall() throws IOException {
+        when(playerService.updatePlayerImages(anyMap())).thenReturn(Set.of("pl1"));
+
+        ImageImportReportDto report = importService.importZip(zip(
+                "photos/PL1.jpg", "first",
+                "pl2.png", "second",
+                "pl1.png", "duplicate",
+                "pl9.jpg", "unknown",
+                "readme.txt", "text",
+                "__MACOSX/._pl2.png", "fork"));
+
+        assertEquals(1, report.getImported());
+        assertEquals(1, report.getUnchanged());
+        assertEquals(4, report.getSkipped());
+        assertEquals(0, report.getFailed());
+
+        Map<String, ImageImportStatus> statuses = new HashMap<>();
+        for (ImageImportResultDto file : report.getFiles()) {
+            statuses.put(file.getFileName(), file.getStatus());
+        }
+        assertEquals(ImageImportStatus.IMPORTED, statuses.get("photos/PL1.jpg"));
+        assertEquals(ImageImportStatus.UNCHANGED, statuses.get("pl2.png"));
+        assertEquals(ImageImportStatus.SKIPPED, statuses.get("pl1.png"));
+        assertEquals(ImageImportStatus.NO_MATCHING_PLAYER, statuses.get("pl9.jpg"));
+
+        ArgumentCaptor<Map<String, String>> urls = ArgumentCaptor.forClass(Map.class);
+        verify(playerService).updatePlayerImages(urls.capture());
+        assertEquals(Set.of("pl1", "pl2"), urls.getValue().keySet());
+    }
+
+    private ByteArrayInputStream zip(String... namesAndContents) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(namesAndContents[i]));
+                zip.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+}
@@ -0,0 +1,107 @@
+package com.spl.spl.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.spl.spl.dto.RosterImportReportDto;
+import com.spl.spl.entity.Player;
+import com.spl.spl.entity.PlayerCategory;
+import com.spl.spl.entity.PlayerLevel;
+import com.spl.spl.exception.SplBadRequestException;
+import com.spl.spl.repository.PlayerCategoryRepository;
+import com.spl.spl.repository.PlayerLevelRepository;
+
+class PlayerRosterImportServiceTest {
+
+    private PlayerService playerService;
+    private PlayerRosterImportService importService;
+    private final List<List<Player>> batches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        playerService = mock(PlayerService.class);
+        PlayerLevelRepository playerLevelRepository = mock(PlayerLevelRepository.class);
+        PlayerCategoryRepository playerCategoryRepository = mock(PlayerCategoryRepository.class);
+
+        PlayerLevel level = new PlayerLevel();
+        level.setCode("a");
+        PlayerCategory category = new PlayerCategory();
+        category.setCode("BAT");
+        when(playerLevelRepository.findAll()).thenReturn(List.of(level));
+        when(playerCategoryRepository.findAll()).thenReturn(List.of(category));
+        when(playerService.savePlayers(anyList())).thenAnswer(invocation -> {
+            List<Player> players = invocation.getArgument(0);
+            batches.add(players);
+            return players;
+        });
+
+        importService = new PlayerRosterImportService(playerService, playerLevelRepository,
+                playerCategoryRepository, 2, 10);
+    }
+
+    @Test
+    void importRoster_Csv_InsertsValidRowsInBatches_AndReportsInvalidRows() {
+        String csv = """
+                Name,Level,Category,Image URL,Active
+                Asha,A,bat,,yes
+                Bilal,a,,img/b.png,
+                ,a,bat,,
+                Chen,z,bat,,
+                Dev,a,bowl,,
+                Esha,a,bat,,maybe
+                Farid,A,BAT,,0
+                """;
+
+        RosterImportReportDto report = importService.importRoster(file("roster.csv", csv));
+
+        assertEquals(7, report.getRows());
+        assertEquals(3, report.getImported());
+        assertEquals(4, report.getFailed());
+        assertEquals(4, report.getErrors().get(0).getRow());
+        assertEquals("Name is required", report.getErrors().get(0).getMessage());
+        assertEquals("Unknown player level 'z'", report.getErrors().get(1).getMessage());
+        assertEquals("Unknown player category 'bowl'", report.getErrors().get(2).getMessage());
+        assertEquals(7, report.getErrors().get(3).getRow());
+
+        verify(playerService, times(2)).savePlayers(anyList());
+        verify(playerService, times(1)).publishRosterUpdated();
+        assertEquals(2, batches.get(0).size());
+        Player bilal = batches.get(0).get(1);
+        assertEquals("img/b.png", bilal.getImageUrl());
+        assertNull(bilal.getCategory());
+        assertFalse(batches.get(1).get(0).getIsActive());
+    }
+
+    @Test
+    void importRoster_NothingImported_PublishesNoRosterChange() {
+        RosterImportReportDto report = importService.importRoster(file("roster.csv", "Name,Level\nChen,z\n"));
+
+        assertEquals(0, report.getImported());
+        verify(playerService, never()).publishRosterUpdated();
+    }
+
+    @Test
+    void importRoster_UnsupportedFile_ThrowsBadRequest() {
+        assertThrows(SplBadRequestException.class, () -> importService.importRoster(file("roster.txt", "name")));
+    }
+
+    private MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("file", name, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,122 @@
+package com.spl.spl.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.spl.spl.dto.PlayerTeamChangeDto;
+import com.spl.spl.dto.SeasonChangesDto;
+import com.spl.spl.event.SeasonChangeType;
+import com.spl.spl.event.SeasonChangedEvent;
+
+class SeasonChangeLogTest {
+
+    private static final Long SEASON_ID = 1L;
+
+    private SeasonVersionService seasonVersionService;
+    private SeasonChangeLog seasonChangeLog;
+
+    @BeforeEach
+    void setUp() {
+        seasonVersionService = new SeasonVersionService();
+        seasonChangeLog = new SeasonChangeLog(seasonVersionService, 3);
+    }
+
+    @Test
+    void changesSince_ShouldKeepLatestStateOfEachRow() {
+        commit(sale("pl1T1S1", "10"));
+        commit(sale("pl1T1S1", "15"));
+        commit(sale("pl2T1S1", "20"));
+
+        SeasonChangesDto changes = seasonChangeLog.changesSince(SEASON_ID, 0, null);
+
+        assertFalse(changes.isFullResync());
+        assertEquals(3, changes.getVersion());
+        assertEquals(2, changes.getPlayerTeams().size());
+        assertEquals(new BigDecimal("15"), changes.getPlayerTeams().get(0).getSoldAmount());
+    }
+
+    @Test
+    void changesSince_ShouldReturnNothingWhenClientIsCurrent() {
+        commit(sale("pl1T1S1", "10"));
+
+        SeasonChangesDto changes = seasonChangeLog.changesSince(SEASON_ID, 1, seasonVersionService.getEpoch());
+
+        assertFalse(changes.isFullResync());
+        assertEquals(1, changes.getVersion());
+        assertTrue(changes.getPlayerTeams().isEmpty());
+    }
+
+    @Test
+    void changesSince_ShouldAskForFullResyncOutsideWindow() {
+        for (int i = 0; i < 5; i++) {
+            commit(sale("pl" + i + "T1S1", "10"));
+        }
+
+        assertTrue(seasonChangeLog.changesSince(SEASON_ID, 1, null).isFullResync());
+        assertFalse(seasonChangeLog.changesSince(SEASON_ID, 2, null).isFullResync());
+    }
+
+    @Test
+    void changesSince_ShouldAskForFullResyncFromAnotherEpoch() {
+        commit(sale("pl1T1S1", "10"));
+
+        assertTrue(seasonChangeLog.changesSince(SEASON_ID, 0, "other").isFullResync());
+    }
+
+    @Test
+    void changesSince_ShouldStopAtVersionNotLoggedYet() {
+        SeasonChangedEvent first = sale("pl1T1S1", "10");
+        SeasonChangedEvent second = sale("pl2T1S1", "20");
+        seasonVersionService.onSeasonChanged(first);
+        seasonVersionService.onSeasonChanged(second);
+        seasonChangeLog.onSeasonChanged(second);
+
+        SeasonChangesDto changes = seasonChangeLog.changesSince(SEASON_ID, 0, null);
+
+        assertEquals(0, changes.getVersion());
+        assertTrue(changes.getPlayerTeams().isEmpty());
+
+        seasonChangeLog.onSeasonChanged(first);
+
+        assertEquals(2, seasonChangeLog.changesSince(SEASON_ID, 0, null).getVersion());
+    }
+
+    @Test
+    void changesSince_ShouldStopAtGapAfterWindowHasMoved() {
+        for (int i = 0; i < 4; i++) {
+            commit(sale("pl" + i + "T1S1", "10"));
+        }
+        SeasonChangedEvent pending = sale("pl5T1S1", "10");
+        seasonVersionService.onSeasonChanged(pending);
+        commit(sale("pl6T1S1", "10"));
+
+        SeasonChangesDto changes = seasonChangeLog.changesSince(SEASON_ID, 2, null);
+
+        assertFalse(changes.isFullResync());
+        assertEquals(4, changes.getVersion());
+        assertTrue(seasonChangeLog.changesSince(SEASON_ID, 1, null).isFullResync());
+    }
+
+    private void commit(SeasonChangedEvent event) {
+        seasonVersionService.onSeasonChanged(event);
+        seasonChangeLog.onSeasonChanged(event);
+    }
+
+    private SeasonChangedEvent sale(String playerTeamCode, String amount) {
+        return SeasonChangedEvent.builder()
+                .seasonId(SEASON_ID)
+                .type(SeasonChangeType.PLAYER_SOLD)
+                .playerTeams(List.of(PlayerTeamChangeDto.builder()
+                        .code(playerTeamCode)
+                        .soldAmount(new BigDecimal(amount))
+                        .build()))
+                .build();
+    }
+}
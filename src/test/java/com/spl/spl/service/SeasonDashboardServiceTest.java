@@ -0,0 +1,118 @@
+package com.spl.spl.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.spl.spl.dto.PlayerLevelCountDto;
+import com.spl.spl.dto.SeasonDashboardDto;
+import com.spl.spl.entity.PlayerCategory;
+import com.spl.spl.entity.PlayerLevel;
+import com.spl.spl.entity.Season;
+import com.spl.spl.entity.TeamSeason;
+import com.spl.spl.exception.ResourceNotFoundException;
+import com.spl.spl.repository.PlayerRepository;
+import com.spl.spl.repository.SeasonRepository;
+
+class SeasonDashboardServiceTest {
+
+    private static final Long SEASON_ID = 1L;
+
+    private SeasonRepository seasonRepository;
+    private TeamSeasonService teamSeasonService;
+    private PlayerLevelService playerLevelService;
+    private PlayerCategoryService playerCategoryService;
+    private PlayerRepository playerRepository;
+    private SeasonDashboardService dashboardService;
+
+    private final Season season = new Season();
+    private final List<TeamSeason> teamSeasons = List.of(new TeamSeason());
+    private final List<PlayerCategory> categories = List.of(new PlayerCategory());
+
+    @BeforeEach
+    void setUp() {
+        seasonRepository = mock(SeasonRepository.class);
+        teamSeasonService = mock(TeamSeasonService.class);
+        playerLevelService = mock(PlayerLevelService.class);
+        playerCategoryService = mock(PlayerCategoryService.class);
+        playerRepository = mock(PlayerRepository.class);
+        dashboardService = new SeasonDashboardService(seasonRepository, teamSeasonService, playerLevelService,
+                playerCategoryService, playerRepository);
+
+        when(seasonRepository.findById(SEASON_ID)).thenReturn(Optional.of(season));
+        when(teamSeasonService.getTeamSeasonsBySeason(SEASON_ID)).thenReturn(teamSeasons);
+        when(playerLevelService.getAllPlayerLevels()).thenReturn(List.of(level("l1"), level("l2"), level("l3")));
+        when(playerCategoryService.getAllActiveCategories()).thenReturn(categories);
+        when(playerRepository.countPlayersNotInTeamGroupByLevel(SEASON_ID))
+                .thenReturn(List.of(new PlayerLevelCountDto("l2", 7L), new PlayerLevelCountDto("l1", 4L)));
+        when(playerRepository.countUnsoldPlayers(SEASON_ID)).thenReturn(3L);
+    }
+
+    @Test
+    void getDashboard_AssemblesEverySubQuery_WithZeroCountsForLevelsWithoutPlayers() {
+        SeasonDashboardDto dashboard = dashboardService.getDashboard(SEASON_ID);
+
+        assertSame(season, dashboard.getSeason());
+        assertSame(teamSeasons, dashboard.getTeamSeasons());
+        assertSame(categories, dashboard.getCategories());
+        assertEquals(3, dashboard.getPlayerLevels().size());
+        assertEquals(Map.of("l1", 4L, "l2", 7L, "l3", 0L), dashboard.getAvailablePlayerCounts());
+        assertEquals(List.of("l1", "l2", "l3"), List.copyOf(dashboard.getAvailablePlayerCounts().keySet()));
+        assertEquals(3L, dashboard.getUnsoldPlayerCount());
+    }
+
+    @Test
+    void getDashboard_RunsSubQueriesConcurrently() {
+        // each query waits until all of them have started, so a sequential load would time out
+        CountDownLatch started = new CountDownLatch(3);
+        when(seasonRepository.findById(SEASON_ID)).thenAnswer(invocation -> awaitOthers(started, Optional.of(season)));
+        when(teamSeasonService.getTeamSeasonsBySeason(SEASON_ID))
+                .thenAnswer(invocation -> awaitOthers(started, teamSeasons));
+        when(playerRepository.countUnsoldPlayers(SEASON_ID)).thenAnswer(invocation -> awaitOthers(started, 3L));
+
+        SeasonDashboardDto dashboard = dashboardService.getDashboard(SEASON_ID);
+
+        assertSame(season, dashboard.getSeason());
+        assertEquals(3L, dashboard.getUnsoldPlayerCount());
+    }
+
+    @Test
+    void getDashboard_ThrowsNotFoundForUnknownSeason() {
+        when(seasonRepository.findById(SEASON_ID)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> dashboardService.getDashboard(SEASON_ID));
+    }
+
+    @Test
+    void getDashboard_RethrowsTheFailureOfASubQuery() {
+        IllegalArgumentException failure = new IllegalArgumentException("categories unavailable");
+        when(playerCategoryService.getAllActiveCategories()).thenThrow(failure);
+
+        assertSame(failure, assertThrows(IllegalArgumentException.class,
+                () -> dashboardService.getDashboard(SEASON_ID)));
+    }
+
+    private <T> T awaitOthers(CountDownLatch started, T result) throws InterruptedException {
+        started.countDown();
+        assertTrue(started.await(5, TimeUnit.SECONDS), "sub-queries did not run concurrently");
+        return result;
+    }
+
+    private PlayerLevel level(String code) {
+        PlayerLevel level = new PlayerLevel();
+        level.setCode(code);
+        return level;
+    }
+}
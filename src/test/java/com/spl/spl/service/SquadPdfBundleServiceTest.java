@@ -0,0 +1,71 @@
+package com.spl.spl.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.spl.spl.entity.Season;
+import com.spl.spl.entity.Team;
+import com.spl.spl.entity.TeamSeason;
+
+class SquadPdfBundleServiceTest {
+
+    private final SquadPdfBundleService bundleService = new SquadPdfBundleService(null, new PdfGenerationService(),
+            null, null, 2);
+
+    @AfterEach
+    void tearDown() {
+        bundleService.shutdown();
+    }
+
+    @Test
+    void writeBundle_GivesSquadsSharingATeamNameTheirOwnEntries() throws IOException {
+        List<TeamSeason> teamSeasons = List.of(teamSeason(1L, "Strikers"), teamSeason(2L, "Strikers"),
+                teamSeason(3L, "Titans"));
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+
+        bundleService.writeBundle(new SquadPdfBundleService.SeasonSquads(teamSeasons, Map.of()), zip);
+
+        assertEquals(List.of("Strikers_Squad_S2025_1.pdf", "Strikers_Squad_S2025_2.pdf", "Titans_Squad_S2025.pdf"),
+                entryNames(zip.toByteArray()));
+    }
+
+    private List<String> entryNames(byte[] zip) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+                names.add(entry.getName());
+            }
+        }
+        names.sort(null);
+        return names;
+    }
+
+    private TeamSeason teamSeason(Long id, String teamName) {
+        Season season = new Season();
+        season.setCode("S2025");
+        season.setBudgetLimit(new BigDecimal("100000000"));
+        Team team = new Team();
+        team.setName(teamName);
+
+        TeamSeason teamSeason = new TeamSeason();
+        teamSeason.setId(id);
+        teamSeason.setTeam(team);
+        teamSeason.setSeason(season);
+        teamSeason.setTotalAmountSpent(BigDecimal.ZERO);
+        teamSeason.setPlayerTeams(new ArrayList<>());
+        teamSeason.setTeamSeasonPlayerLevels(new ArrayList<>());
+        return teamSeason;
+    }
+}
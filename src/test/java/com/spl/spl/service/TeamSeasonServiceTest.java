@@ -0,0 +1,115 @@
+package com.spl.spl.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.spl.spl.entity.Player;
+import com.spl.spl.entity.PlayerCategory;
+import com.spl.spl.entity.PlayerLevel;
+import com.spl.spl.entity.PlayerTeam;
+import com.spl.spl.entity.Season;
+import com.spl.spl.entity.Team;
+import com.spl.spl.entity.TeamSeason;
+import com.spl.spl.entity.TeamSeasonPlayerLevel;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Calls the squad loaders the way report jobs and the completion warmer do: from a thread with
+ * no transaction or session open, reading the result after the call has returned.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TeamSeasonService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TeamSeasonServiceTest {
+
+    @Autowired
+    private TeamSeasonService teamSeasonService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void getTeamSeasonsForSquadPdfs_InitialisesSquadsOutsideATransaction() {
+        Season season = new TransactionTemplate(transactionManager).execute(status -> createSquad());
+
+        List<TeamSeason> teamSeasons = teamSeasonService.getTeamSeasonsForSquadPdfs(season.getId());
+
+        assertEquals(1, teamSeasons.size());
+        TeamSeason teamSeason = teamSeasons.get(0);
+        assertEquals("L1", teamSeason.getTeamSeasonPlayerLevels().get(0).getPlayerLevel().getName());
+        assertEquals("L1", teamSeason.getPlayerTeams().get(0).getPlayer().getPlayerLevel().getName());
+        assertEquals(List.of(teamSeason.getId()), teamSeasonService.getTeamSeasonIds(season.getId()));
+    }
+
+    private Season createSquad() {
+        String suffix = Long.toString(System.nanoTime());
+        Season season = new Season();
+        season.setCode("S" + suffix);
+        season.setYear(2024);
+        season.setBudgetLimit(new BigDecimal("1000"));
+        entityManager.persist(season);
+
+        PlayerCategory category = new PlayerCategory();
+        category.setCode("C" + suffix);
+        category.setName("Batsman");
+        entityManager.persist(category);
+
+        PlayerLevel level = new PlayerLevel();
+        level.setCode("l" + suffix);
+        level.setName("L1");
+        level.setBaseAmount(BigDecimal.TEN);
+        entityManager.persist(level);
+
+        Team team = new Team();
+        team.setCode("T" + suffix);
+        team.setName("Strikers");
+        entityManager.persist(team);
+
+        TeamSeason teamSeason = new TeamSeason();
+        teamSeason.setCode(team.getCode() + season.getCode());
+        teamSeason.setTeam(team);
+        teamSeason.setSeason(season);
+        teamSeason.setTotalAmountSpent(BigDecimal.ZERO);
+        entityManager.persist(teamSeason);
+
+        TeamSeasonPlayerLevel summary = new TeamSeasonPlayerLevel();
+        summary.setTeamSeason(teamSeason);
+        summary.setPlayerLevel(level);
+        summary.setTotalAmountSpent(BigDecimal.ZERO);
+        summary.setNextPlayerBudget(new BigDecimal("100"));
+        entityManager.persist(summary);
+
+        Player player = new Player();
+        player.setCode("pl" + suffix);
+        player.setName("Asha");
+        player.setPlayerLevel(level);
+        player.setCategory(category);
+        entityManager.persist(player);
+
+        PlayerTeam playerTeam = new PlayerTeam();
+        playerTeam.setCode(player.getCode() + teamSeason.getCode());
+        playerTeam.setPlayer(player);
+        playerTeam.setTeamSeason(teamSeason);
+        playerTeam.setSoldAmount(new BigDecimal("10"));
+        playerTeam.setIsManager(false);
+        entityManager.persist(playerTeam);
+        return season;
+    }
+}
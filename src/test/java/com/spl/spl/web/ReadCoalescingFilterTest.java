@@ -0,0 +1,78 @@
+package com.spl.spl.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.spl.spl.repository.SeasonRepository;
+import com.spl.spl.service.SeasonVersionService;
+
+import tools.jackson.databind.json.JsonMapper;
+
+class ReadCoalescingFilterTest {
+
+    private final SeasonVersionService seasonVersionService = new SeasonVersionService();
+    private final ReadCoalescingFilter filter = new ReadCoalescingFilter(seasonVersionService,
+            new ResponseBodyCache(mock(SeasonRepository.class), 1_048_576, 60_000, 1024), JsonMapper.builder().build(),
+            1000);
+
+    @Test
+    void exactETag_AnswersNotModified() throws Exception {
+        assertNotModified(etag());
+    }
+
+    @Test
+    void etagInAList_AnswersNotModified() throws Exception {
+        assertNotModified("W/\"stale\", " + etag() + ", \"other\"");
+    }
+
+    @Test
+    void wildcard_AnswersNotModified() throws Exception {
+        assertNotModified("*");
+    }
+
+    @Test
+    void strongFormOfTheWeakETag_AnswersNotModified() throws Exception {
+        assertNotModified(etag().substring(2));
+    }
+
+    @Test
+    void staleETag_RunsTheHandler() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = filter(etag().replace("-s1-", "-s2-"), chain);
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(etag(), response.getHeader(HttpHeaders.ETAG));
+    }
+
+    private void assertNotModified(String ifNoneMatch) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = filter(ifNoneMatch, chain);
+
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+        assertEquals(etag(), response.getHeader(HttpHeaders.ETAG));
+        assertNull(chain.getRequest());
+    }
+
+    private MockHttpServletResponse filter(String ifNoneMatch, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/team-seasons");
+        request.addParameter("seasonId", "1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private String etag() {
+        return seasonVersionService.etag(1L);
+    }
+}
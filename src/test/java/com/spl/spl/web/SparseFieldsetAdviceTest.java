@@ -0,0 +1,85 @@
+package com.spl.spl.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.spl.spl.dto.FieldSelection;
+import com.spl.spl.dto.ItemsResponse;
+import com.spl.spl.dto.ItemsResponse.ItemsData;
+import com.spl.spl.entity.Team;
+import com.spl.spl.entity.TeamSeason;
+import com.spl.spl.views.Views;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+class SparseFieldsetAdviceTest {
+
+    private JsonMapper jsonMapper;
+    private SparseFieldsetAdvice advice;
+    private ItemsResponse<TeamSeason> body;
+
+    @BeforeEach
+    void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        advice = new SparseFieldsetAdvice(jsonMapper);
+
+        Team team = new Team();
+        team.setCode("T1");
+        team.setName("Strikers");
+
+        TeamSeason teamSeason = new TeamSeason();
+        teamSeason.setId(1L);
+        teamSeason.setCode("T1S1");
+        teamSeason.setTeam(team);
+        teamSeason.setTotalAmountSpent(new BigDecimal("150.50"));
+        body = new ItemsResponse<>(new ItemsData<>(List.of(teamSeason)));
+    }
+
+    @Test
+    void select_ShouldKeepOnlyRequestedFieldsInsideWrappers() {
+        JsonNode item = firstItem(FieldSelection.parse("code,totalAmountSpent"));
+
+        assertEquals("T1S1", item.get("code").asString());
+        assertFalse(item.has("team"));
+        assertFalse(item.has("id"));
+    }
+
+    @Test
+    void select_ShouldKeepDecimalScale() {
+        String json = jsonMapper.writeValueAsString(
+                advice.select(body, Views.TeamSeasonsView.class, FieldSelection.parse("totalAmountSpent")));
+
+        assertTrue(json.contains("\"totalAmountSpent\":150.50"), json);
+    }
+
+    @Test
+    void select_ShouldFollowNestedPaths() {
+        JsonNode item = firstItem(FieldSelection.parse("team.name"));
+
+        assertEquals(1, item.size());
+        assertEquals("Strikers", item.get("team").get("name").asString());
+        assertFalse(item.get("team").has("code"));
+    }
+
+    @Test
+    void fieldSelection_ShouldTellWhichAssociationsAreNeeded() {
+        FieldSelection fields = FieldSelection.parse("code, nextPlayerBudget");
+
+        assertFalse(fields.includesAny("team", "season", "teamSeasonPlayerLevels"));
+        assertTrue(FieldSelection.parse("team").includes("team.name"));
+        assertTrue(FieldSelection.parse(null).isAll());
+    }
+
+    private JsonNode firstItem(FieldSelection fields) {
+        String json = jsonMapper.writeValueAsString(advice.select(body, Views.TeamSeasonsView.class, fields));
+        return jsonMapper.readTree(json).get("data").get("items").get(0);
+    }
+}
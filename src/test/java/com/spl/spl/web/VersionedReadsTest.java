@@ -0,0 +1,96 @@
+package com.spl.spl.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.spl.spl.config.ReplicaLagGuard;
+import com.spl.spl.event.SeasonChangeType;
+import com.spl.spl.event.SeasonChangedEvent;
+import com.spl.spl.service.SeasonVersionService;
+
+class VersionedReadsTest {
+
+    private final SeasonVersionService seasonVersionService = new SeasonVersionService();
+    private final VersionedReads versionedReads = new VersionedReads(seasonVersionService);
+    private final AtomicInteger reads = new AtomicInteger();
+
+    @Test
+    void read_ReturnsBodyWithVersionETag_AndMarksTheReadShared() {
+        MockHttpServletRequest request = get(null);
+
+        ResponseEntity<String> response = read(1L, request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("squads", response.getBody());
+        assertEquals(seasonVersionService.etag(1L), response.getHeaders().getETag());
+        assertEquals(Boolean.TRUE, request.getAttribute(ReplicaLagGuard.SHARED_READ_ATTRIBUTE));
+    }
+
+    @Test
+    void read_AnswersNotModifiedForCurrentETag_WithoutReading() {
+        String etag = read(1L, get(null)).getHeaders().getETag();
+        MockHttpServletRequest request = get(etag);
+
+        ResponseEntity<String> response = read(1L, request);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(1, reads.get());
+        assertNull(request.getAttribute(ReplicaLagGuard.SHARED_READ_ATTRIBUTE));
+    }
+
+    @Test
+    void read_ReturnsNewETagAfterAWriteToTheSeason_OnlyForThatSeason() {
+        String season1 = read(1L, get(null)).getHeaders().getETag();
+        String season2 = read(2L, get(null)).getHeaders().getETag();
+
+        seasonVersionService.onSeasonChanged(SeasonChangedEvent.builder()
+                .seasonId(1L)
+                .type(SeasonChangeType.PLAYER_SOLD)
+                .build());
+
+        ResponseEntity<String> changed = read(1L, get(season1));
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertNotEquals(season1, changed.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, read(2L, get(season2)).getStatusCode());
+    }
+
+    @Test
+    void read_ReturnsNewETagForEverySeasonAfterARosterWrite() {
+        String season1 = read(1L, get(null)).getHeaders().getETag();
+        String roster = read(null, get(null)).getHeaders().getETag();
+
+        seasonVersionService.onSeasonChanged(SeasonChangedEvent.builder()
+                .type(SeasonChangeType.ROSTER_UPDATED)
+                .build());
+
+        assertEquals(HttpStatus.OK, read(1L, get(season1)).getStatusCode());
+        assertEquals(HttpStatus.OK, read(null, get(roster)).getStatusCode());
+    }
+
+    private ResponseEntity<String> read(Long seasonId, MockHttpServletRequest request) {
+        return versionedReads.read(seasonId, new ServletWebRequest(request, new MockHttpServletResponse()), () -> {
+            reads.incrementAndGet();
+            return "squads";
+        });
+    }
+
+    private MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/team-seasons");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+}